@@ -2,7 +2,7 @@ import axios from "axios";
 
 export const fetchTopCandidates = async (jobId) => {
     try {
-        const res = await fetch(`http://localhost:5002/match-top-candidates?job_id=${jobId}`);
+        const res = await fetch(`http://localhost:8080/api/applications/job/${jobId}/top-candidates`);
         const data = await res.json();
         return data.topCandidates || [];
       } catch (err) {
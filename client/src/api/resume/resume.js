@@ -4,6 +4,24 @@ import { setSuccess, setError } from '../../redux/successSlice.js';
 import { setHasResume} from '../../redux/profileSlice.js';
 import {useDispatch} from 'react-redux'
 
+// Shaped like an axios error so callers can keep reading error.response.data.message
+const resumeJobError = (message) => {
+    const error = new Error(message);
+    error.response = { data: { message } };
+    return error;
+};
+
+// Uploads are processed in the background; poll the job until it settles
+const waitForResumeJob = async (jobId, { intervalMs = 1000, maxAttempts = 60 } = {}) => {
+    for (let attempt = 0; attempt < maxAttempts; attempt++) {
+        const { data } = await axios.get(`http://localhost:8080/api/resume/jobs/${jobId}`);
+        if (data.status === 'COMPLETED') return data;
+        if (data.status === 'FAILED') throw resumeJobError(data.error || 'Resume processing failed');
+        await new Promise(resolve => setTimeout(resolve, intervalMs));
+    }
+    throw resumeJobError('Resume processing timed out');
+};
+
 export const useFileUpload=()=>{
     const dispatch= useDispatch()
 
@@ -35,6 +53,7 @@ export const useFileUpload=()=>{
                     }
                 }
             );
+            const uploadJob = await waitForResumeJob(uploadResponse.data.jobId);
     
             // 2. Extract and save CV data
             await axios.get(
@@ -42,7 +61,7 @@ export const useFileUpload=()=>{
             );
     
             dispatch(setUploadSuccess(true));
-            dispatch(setHasResume({ hasResume: true, resumeUrl: uploadResponse.data.url }));
+            dispatch(setHasResume({ hasResume: true, resumeUrl: uploadJob.fileUrl }));
         } catch (error) {
             dispatch(setError(error.response?.data?.message || 'Upload failed'));
         } finally {
@@ -71,6 +90,7 @@ export const useFileUpload=()=>{
                     }
                 }
             );
+            const updateJob = await waitForResumeJob(updateResponse.data.jobId);
     
             // 2. Extract and save updated CV data
             await axios.get(
@@ -78,8 +98,8 @@ export const useFileUpload=()=>{
             );
     
             dispatch(setSuccess(true));
-            dispatch(setHasResume({ hasResume: true, resumeUrl: updateResponse.data.url }));
-            return updateResponse.data;
+            dispatch(setHasResume({ hasResume: true, resumeUrl: updateJob.fileUrl }));
+            return { ...updateResponse.data, url: updateJob.fileUrl };
         } catch (error) {
             throw new Error(error.response?.data?.message || 'Failed to update resume');
         } finally {
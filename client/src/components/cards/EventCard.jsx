@@ -134,7 +134,7 @@ const EventCard = ({ event, onEventClick, onRegister, isUserRegistered }) => {
           <Box display="flex" alignItems="center" gap={1}>
             <People fontSize="small" color="action" />
             <Typography variant="body2">
-              {event.participants?.length || 0} registered
+              {event.participantCount || 0} registered
             </Typography>
           </Box>
           {isRegistered && (
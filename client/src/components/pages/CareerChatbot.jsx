@@ -284,11 +284,18 @@ const CareerChatbot = () => {
     setInputMessage("");
     setIsLoading(true);
 
+    const botId = `stream-${Date.now()}`;
+    const updateBotMessage = (changes) =>
+      setMessages((prev) =>
+        prev.map((msg) => (msg.id === botId ? { ...msg, ...changes(msg) } : msg))
+      );
+
     try {
-      const response = await fetch("http://localhost:8080/api/chat/message", {
+      const response = await fetch("http://localhost:8080/api/chat/message/stream", {
         method: "POST",
         headers: {
           "Content-Type": "application/json",
+          Accept: "text/event-stream",
         },
         body: JSON.stringify({
           userId: currentUser.id,
@@ -297,21 +304,54 @@ const CareerChatbot = () => {
         }),
       });
 
-      const data = await response.json();
-
-      if (data.status === "success") {
-        const botMessage = {
-          id: `${data.id}-bot`,
-          type: "bot",
-          content: data.botResponse,
-          timestamp: new Date(data.timestamp),
-          messageType: data.messageType,
-        };
+      if (!response.ok || !response.body) {
+        throw new Error(`Failed to send message (${response.status})`);
+      }
 
-        setMessages((prev) => [...prev, botMessage]);
-        setConversationId(data.conversationId);
-      } else {
-        throw new Error(data.message || "Failed to send message");
+      setMessages((prev) => [
+        ...prev,
+        { id: botId, type: "bot", content: "", timestamp: new Date() },
+      ]);
+
+      // Server-sent events: "event: <name>" and "data: <json>" lines, blank line between events
+      const reader = response.body.getReader();
+      const decoder = new TextDecoder();
+      let buffer = "";
+      let finished = false;
+
+      while (!finished) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true });
+
+        let boundary;
+        while ((boundary = buffer.indexOf("\n\n")) !== -1) {
+          const rawEvent = buffer.slice(0, boundary);
+          buffer = buffer.slice(boundary + 2);
+
+          let eventName = "message";
+          const dataLines = [];
+          for (const line of rawEvent.split("\n")) {
+            if (line.startsWith("event:")) eventName = line.slice(6).trim();
+            else if (line.startsWith("data:")) dataLines.push(line.slice(5));
+          }
+          if (dataLines.length === 0) continue;
+          const data = JSON.parse(dataLines.join("\n"));
+
+          if (eventName === "token") {
+            setIsLoading(false);
+            updateBotMessage((msg) => ({ content: msg.content + data.text }));
+          } else if (eventName === "done") {
+            updateBotMessage(() => ({
+              timestamp: new Date(data.timestamp),
+              messageType: data.messageType,
+            }));
+            setConversationId(data.conversationId);
+            finished = true;
+          } else if (eventName === "error") {
+            throw new Error(data.message || "Failed to send message");
+          }
+        }
       }
     } catch (error) {
       console.error("Error sending message:", error);
@@ -323,7 +363,10 @@ const CareerChatbot = () => {
         timestamp: new Date(),
         isError: true,
       };
-      setMessages((prev) => [...prev, errorMessage]);
+      setMessages((prev) => [
+        ...prev.filter((msg) => msg.id !== botId || msg.content),
+        errorMessage,
+      ]);
     } finally {
       setIsLoading(false);
     }
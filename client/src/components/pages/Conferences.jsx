@@ -106,10 +106,10 @@ const Conferences = () => {
         conference.eventDate
       );
 
-      // Ensure participants is an array
+      // Participant counts come with each event; full lists are fetched on demand
       conferencesData = conferencesData.map(conference => ({
         ...conference,
-        participants: Array.isArray(conference.participants) ? conference.participants : []
+        participantCount: conference.participantCount || 0
       }));
 
       setConferences(conferencesData);
@@ -128,7 +128,7 @@ const Conferences = () => {
           eventDate: new Date(Date.now() + 14 * 24 * 60 * 60 * 1000).toISOString(),
           location: "Convention Center",
           eventType: "CONFERENCE",
-          participants: []
+          participantCount: 0
         }
       ];
       setConferences(sampleConferences);
@@ -188,7 +188,7 @@ const Conferences = () => {
   const calculateTotalParticipants = () => {
     if (!Array.isArray(conferences)) return 0;
     return conferences.reduce(
-      (sum, conference) => sum + (Array.isArray(conference.participants) ? conference.participants.length : 0),
+      (sum, conference) => sum + (conference.participantCount || 0),
       0
     );
   };
@@ -310,7 +310,7 @@ const Conferences = () => {
                     <Box display="flex" alignItems="center" gap={1}>
                       <PersonIcon color="action" fontSize="small" />
                       <Typography variant="body2">
-                        {conference.participants?.length || 0} Registered
+                        {conference.participantCount || 0} Registered
                       </Typography>
                     </Box>
                   </Box>
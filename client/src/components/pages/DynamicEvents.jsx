@@ -118,7 +118,8 @@ const DynamicEvents = () => {
   // Fetch events from backend
   const fetchEvents = async () => {
     try {
-      const response = await axios.get("/events");
+      // userId lets the server mark the events this user is registered for
+      const response = await axios.get("/events", { params: { userId: user?.id } });
       
       console.log("Raw events response:", response);
       console.log("Response data type:", typeof response.data);
@@ -145,10 +146,10 @@ const DynamicEvents = () => {
         event.eventDate
       );
 
-      // Ensure participants is an array
+      // Participant counts come with each event; full lists are fetched on demand
       eventsData = eventsData.map(event => ({
         ...event,
-        participants: Array.isArray(event.participants) ? event.participants : []
+        participantCount: event.participantCount || 0
       }));
 
       setEvents(eventsData);
@@ -182,7 +183,7 @@ const DynamicEvents = () => {
           location: "Online via Zoom",
           organizerEmail: "workshop@careervision.com",
           eventType: "WORKSHOP",
-          participants: []
+          participantCount: 0
         },
         {
           id: 2,
@@ -192,7 +193,7 @@ const DynamicEvents = () => {
           location: "Online Conference",
           organizerEmail: "interviews@careervision.com",
           eventType: "CONFERENCE",
-          participants: []
+          participantCount: 0
         }
       ];
       setEvents(sampleEvents);
@@ -321,9 +322,7 @@ const DynamicEvents = () => {
   };
 
   const isUserRegistered = (event) => {
-    return event.participants?.some(
-      (participant) => participant.user.id === user?.id
-    );
+    return Boolean(event.registered);
   };
 
   // Safely calculate total participants
@@ -335,10 +334,8 @@ const DynamicEvents = () => {
     }
 
     return events.reduce((sum, event) => {
-      // Ensure participants is an array
-      const participantsCount = Array.isArray(event.participants) 
-        ? event.participants.length 
-        : 0;
+      // Participant counts come with each event; full lists are fetched on demand
+      const participantsCount = event.participantCount || 0;
       return sum + participantsCount;
     }, 0);
   };
@@ -596,7 +593,7 @@ const DynamicEvents = () => {
                       <Box display="flex" alignItems="center" gap={1}>
                         <PeopleIcon fontSize="small" color="action" />
                         <Typography variant="body2">
-                          {event.participants?.length || 0} registered
+                          {event.participantCount || 0} registered
                         </Typography>
                       </Box>
                       {isRegistered && (
@@ -809,25 +806,25 @@ const DynamicEvents = () => {
                 {/* Participants Section */}
                 <Box>
                   <Typography variant="h6" gutterBottom>
-                    Registered Participants ({participants.length})
+                    Registered Participants ({selectedEvent.participantCount ?? participants.length})
                   </Typography>
                   {participants.length > 0 ? (
                     <Grid container spacing={2}>
                       {participants.map((participant, index) => (
-                        <Grid item xs={12} sm={6} key={participant.user.id || index}>
+                        <Grid item xs={12} sm={6} key={participant.userId || index}>
                           <Box display="flex" alignItems="center" gap={2} p={1}>
                             <Avatar sx={{ bgcolor: "secondary.main" }}>
-                              {participant.user.name?.[0]?.toUpperCase() || "U"}
+                              {participant.name?.[0]?.toUpperCase() || "U"}
                             </Avatar>
                             <Box>
                               <Typography variant="body2" fontWeight="bold">
-                                {participant.user.name || "User"}
+                                {participant.name || "User"}
                               </Typography>
                               <Typography
                                 variant="caption"
                                 color="text.secondary"
                               >
-                                {participant.user.email}
+                                {participant.email}
                               </Typography>
                             </Box>
                           </Box>
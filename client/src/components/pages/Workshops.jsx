@@ -113,10 +113,10 @@ const Workshops = () => {
         workshop.eventDate
       );
 
-      // Ensure participants is an array
+      // Participant counts come with each event; full lists are fetched on demand
       workshopsData = workshopsData.map(workshop => ({
         ...workshop,
-        participants: Array.isArray(workshop.participants) ? workshop.participants : []
+        participantCount: workshop.participantCount || 0
       }));
 
       setWorkshops(workshopsData);
@@ -155,7 +155,7 @@ const Workshops = () => {
           eventDate: new Date(Date.now() + 10 * 24 * 60 * 60 * 1000).toISOString(),
           location: "Online Workshop",
           eventType: "WORKSHOP",
-          participants: []
+          participantCount: 0
         }
       ];
       setWorkshops(sampleWorkshops);
@@ -215,7 +215,7 @@ const Workshops = () => {
   const calculateTotalParticipants = () => {
     if (!Array.isArray(workshops)) return 0;
     return workshops.reduce(
-      (sum, workshop) => sum + (Array.isArray(workshop.participants) ? workshop.participants.length : 0),
+      (sum, workshop) => sum + (workshop.participantCount || 0),
       0
     );
   };
@@ -337,7 +337,7 @@ const Workshops = () => {
                     <Box display="flex" alignItems="center" gap={1}>
                       <PersonIcon color="action" fontSize="small" />
                       <Typography variant="body2">
-                        {workshop.participants?.length || 0} Registered
+                        {workshop.participantCount || 0} Registered
                       </Typography>
                     </Box>
                   </Box>
@@ -59,7 +59,7 @@ field_skill_variants={
 
     # APIs
     'graphql': ['graph ql'],
-    'rest apis': ['restful api', 'rest'],
+    'rest apis': ['restful api', 'rest', 'rest api'],
     'grpc': ['google remote procedure call'],
 
     # Security
@@ -71,7 +71,7 @@ field_skill_variants={
     'agile methodology': ['agile'],
     'scrum': ['scrum framework'],
     'jira': ['jira software'],
-    'microservices architecture': ['microservices'],
+    'microservices architecture': ['microservices', 'microservice'],
 
     # ======================
     # Civil Engineering
@@ -122,7 +122,7 @@ field_skill_variants={
     'heat transfer': ['thermal transfer'],
     'fluid mechanics': ['fluids'],
     'machine design': ['mechanical design'],
-    'manufacturing processes': ['production processes'],
+    'manufacturing processes': ['production processes', 'manufacturing process'],
     'cnc programming': ['cnc machining'],
     'lean manufacturing': ['lean'],
     'six sigma': ['6 sigma', 'lean six sigma'],
@@ -148,14 +148,14 @@ field_skill_variants={
     'autocad electrical': ['electrical cad'],
     'eplan': ['eplan electric'],
     'plc programming': ['plc', 'programmable logic controller'],
-    'scada systems': ['scada'],
+    'scada systems': ['scada', 'scada system'],
     'hmi design': ['human machine interface'],
     'power systems analysis': ['psa'],
     'circuit analysis': ['circuits'],
     'digital signal processing': ['dsp'],
-    'control systems': ['controls'],
-    'embedded systems': ['embedded dev'],
-    'microcontrollers': ['mcu'],
+    'control systems': ['controls', 'control system'],
+    'embedded systems': ['embedded dev', 'embedded system'],
+    'microcontrollers': ['mcu', 'microcontroller'],
     'arduino': ['arduino board'],
     'raspberry pi': ['raspi'],
     'fpga programming': ['fpga'],
@@ -163,9 +163,9 @@ field_skill_variants={
     'verilog': ['verilog hdl'],
     'power electronics': ['pe'],
     'motor control': ['motor drives'],
-    'renewable energy systems': ['res'],
+    'renewable energy systems': ['res', 'renewable energy system'],
     'smart grid': ['intelligent grid'],
-    'telecommunications': ['telecom'],
+    'telecommunications': ['telecom', 'telecommunication'],
     'rf engineering': ['radio frequency engineering'],
 
     # ======================
@@ -0,0 +1,93 @@
+package CareerVision.benchmark;
+
+import CareerVision.service.PDFExtractorService;
+import CareerVision.service.ParallelPDFExtractorService;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial vs page-parallel resume text extraction over a generated PDF.
+ *
+ * Run with:
+ *   mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args="PdfExtractionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfExtractionBenchmark {
+
+    @Param({"2", "10", "40"})
+    private int pages;
+
+    private byte[] pdfBytes;
+    private PDFExtractorService serialExtractor;
+    private ParallelPDFExtractorService parallelExtractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        pdfBytes = generatePdf(pages);
+
+        serialExtractor = new PDFExtractorService();
+        ReflectionTestUtils.setField(serialExtractor, "maxMainMemoryBytes", 4L * 1024 * 1024);
+        ReflectionTestUtils.setField(serialExtractor, "tempDir", "");
+        ReflectionTestUtils.setField(serialExtractor, "maxPages", 50);
+        ReflectionTestUtils.setField(serialExtractor, "maxChars", 1_000_000);
+
+        parallelExtractor = new ParallelPDFExtractorService(serialExtractor, 0, 1, 2);
+
+        if (!serialExtractor.extractText(pdfBytes).equals(parallelExtractor.extractText(pdfBytes))) {
+            throw new IllegalStateException("Parallel extraction output differs from serial output");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelExtractor.shutdown();
+    }
+
+    @Benchmark
+    public String serial() throws IOException {
+        return serialExtractor.extractText(pdfBytes);
+    }
+
+    @Benchmark
+    public String parallel() throws IOException {
+        return parallelExtractor.extractText(pdfBytes);
+    }
+
+    private static byte[] generatePdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int p = 0; p < pages; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(12);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 55; line++) {
+                        content.showText("Page " + (p + 1) + " line " + line
+                                + ": Java, Spring Boot, PostgreSQL, Docker, Kubernetes, REST APIs, team leadership");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package CareerVision.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class HttpClientConfig {
+
+    // Injected RestTemplate, used for the resume matcher service
+    @Bean
+    public RestTemplate restTemplate(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.restTemplate("resume-matcher");
+    }
+}
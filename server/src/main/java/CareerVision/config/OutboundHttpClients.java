@@ -0,0 +1,242 @@
+package CareerVision.config;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The one place outbound HTTP clients come from. Clients are created once
+ * per named destination and reused, so connections (and TLS sessions) stay
+ * pooled and kept alive across calls instead of being rebuilt per request.
+ * All OkHttp clients share one connection pool and dispatcher. Every
+ * destination has its own connect/read timeouts and a bulkhead capping its
+ * concurrent calls; a caller that cannot get a slot within the configured
+ * wait gets a {@link RejectedExecutionException}, so one slow upstream
+ * cannot tie up every request thread.
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final OutboundHttpProperties properties;
+    private final OkHttpClient sharedOkHttp;
+
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+    private final Map<String, OkHttpClient> okHttpClients = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(OutboundHttpProperties properties) {
+        this.properties = properties;
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(properties.getMaxConcurrent());
+        this.sharedOkHttp = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(properties.getMaxIdleConnections(),
+                        properties.getKeepAliveMs(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+    }
+
+    public HttpClient httpClient(String destination) {
+        return httpClients.computeIfAbsent(destination, name -> HttpClient.newBuilder()
+                .version(destination(name).isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout(name))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
+
+    public RestTemplate restTemplate(String destination) {
+        return restTemplates.computeIfAbsent(destination, name -> {
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient(name));
+            factory.setReadTimeout(readTimeout(name));
+            RestTemplate restTemplate = new RestTemplate(factory);
+            restTemplate.getInterceptors().add(bulkheadInterceptor(name));
+            return restTemplate;
+        });
+    }
+
+    public OkHttpClient okHttpClient(String destination) {
+        return okHttpClients.computeIfAbsent(destination, name -> sharedOkHttp.newBuilder()
+                .connectTimeout(connectTimeout(name))
+                .readTimeout(readTimeout(name))
+                .addInterceptor(okHttpBulkhead(name))
+                .build());
+    }
+
+    // Sends through the destination's pooled java.net.http client with its read timeout and bulkhead
+    public <T> HttpResponse<T> send(String destination, HttpRequest.Builder request,
+                                    HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        Semaphore bulkhead = acquire(destination);
+        try {
+            return httpClient(destination).send(request.timeout(readTimeout(destination)).build(), bodyHandler);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // Like send, but feeds the body to onLine as it arrives and holds the bulkhead slot until it has been read
+    public int sendStreaming(String destination, HttpRequest.Builder request, Consumer<String> onLine)
+            throws IOException, InterruptedException {
+        Semaphore bulkhead = acquire(destination);
+        try {
+            HttpResponse<Stream<String>> response = httpClient(destination)
+                    .send(request.timeout(readTimeout(destination)).build(), HttpResponse.BodyHandlers.ofLines());
+            try (Stream<String> lines = response.body()) {
+                lines.forEach(onLine);
+            }
+            return response.statusCode();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public Duration readTimeout(String destination) {
+        Integer override = destination(destination).getReadTimeoutMs();
+        return Duration.ofMillis(override != null ? override : properties.getReadTimeoutMs());
+    }
+
+    private Duration connectTimeout(String destination) {
+        Integer override = destination(destination).getConnectTimeoutMs();
+        return Duration.ofMillis(override != null ? override : properties.getConnectTimeoutMs());
+    }
+
+    private OutboundHttpProperties.Destination destination(String name) {
+        OutboundHttpProperties.Destination destination = properties.getDestinations().get(name);
+        return destination != null ? destination : new OutboundHttpProperties.Destination();
+    }
+
+    private Semaphore acquire(String destination) {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(destination, name -> {
+            Integer override = destination(name).getMaxConcurrent();
+            return new Semaphore(override != null ? override : properties.getMaxConcurrent());
+        });
+        try {
+            if (!bulkhead.tryAcquire(properties.getBulkheadWaitMs(), TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Too many concurrent calls to " + destination);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for " + destination, e);
+        }
+        return bulkhead;
+    }
+
+    // The slot is held until the response is closed, so streamed bodies count against the bulkhead
+    private ClientHttpRequestInterceptor bulkheadInterceptor(String destination) {
+        return (request, body, execution) -> {
+            Semaphore bulkhead = acquire(destination);
+            try {
+                return new ReleasingResponse(execution.execute(request, body), bulkhead);
+            } catch (IOException | RuntimeException e) {
+                bulkhead.release();
+                throw e;
+            }
+        };
+    }
+
+    private Interceptor okHttpBulkhead(String destination) {
+        return chain -> {
+            Semaphore bulkhead = acquire(destination);
+            Response response;
+            try {
+                response = chain.proceed(chain.request());
+            } catch (IOException | RuntimeException e) {
+                bulkhead.release();
+                throw e;
+            }
+            ResponseBody body = response.body();
+            if (body == null) {
+                bulkhead.release();
+                return response;
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            ForwardingSource releasing = new ForwardingSource(body.source()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            bulkhead.release();
+                        }
+                    }
+                }
+            };
+            return response.newBuilder()
+                    .body(ResponseBody.create(Okio.buffer(releasing), body.contentType(), body.contentLength()))
+                    .build();
+        };
+    }
+
+    private static final class ReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Semaphore bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, Semaphore bulkhead) {
+            this.delegate = delegate;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package CareerVision.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for outbound HTTP calls, bound from {@code http.outbound.*}.
+ * Each named destination may override the defaults, e.g.
+ * {@code http.outbound.destinations.gemini.read-timeout-ms=60000}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "http.outbound")
+public class OutboundHttpProperties {
+
+    private int connectTimeoutMs = 5000;
+    private int readTimeoutMs = 30000;
+
+    // Bulkhead: concurrent calls allowed per destination, and how long a caller waits for a slot
+    private int maxConcurrent = 32;
+    private int bulkheadWaitMs = 1000;
+
+    // Shared OkHttp connection pool
+    private int maxIdleConnections = 20;
+    private long keepAliveMs = 300000;
+
+    private Map<String, Destination> destinations = new HashMap<>();
+
+    @Data
+    public static class Destination {
+        private Integer connectTimeoutMs;
+        private Integer readTimeoutMs;
+        private Integer maxConcurrent;
+
+        // Plain-http local services are spoken to over HTTP/1.1 rather than attempting an h2c upgrade
+        private boolean http2 = true;
+    }
+}
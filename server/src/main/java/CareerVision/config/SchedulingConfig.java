@@ -0,0 +1,10 @@
+package CareerVision.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs such as the email outbox poll
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
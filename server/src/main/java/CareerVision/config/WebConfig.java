@@ -13,6 +13,7 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedOrigins("http://localhost:5173", "http://localhost:3000")
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
             .allowedHeaders("*")
+            .exposedHeaders("X-Total-Count")
             .allowCredentials(true);
     }
 } 
\ No newline at end of file
@@ -2,15 +2,22 @@ package CareerVision.controller;
 
 import CareerVision.model.ChatMessage;
 import CareerVision.service.ChatService;
+import CareerVision.service.ChatStreamingService;
+import CareerVision.service.LlmResponseCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -22,6 +29,12 @@ public class ChatController {
     @Autowired
     private ChatService chatService;
     
+    @Autowired
+    private ChatStreamingService chatStreamingService;
+    
+    @Autowired
+    private LlmResponseCache llmResponseCache;
+    
     @PostMapping("/message")
     public ResponseEntity<?> sendMessage(@RequestBody ChatMessageRequest request) {
         try {
@@ -56,6 +69,25 @@ public class ChatController {
         }
     }
     
+    // Same as /message, but the answer is streamed back as server-sent events
+    @PostMapping(value = "/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessage(@RequestBody ChatMessageRequest request) {
+        try {
+            logger.info("Received streaming chat message from user: {}", request.getUserId());
+            SseEmitter emitter = chatStreamingService.stream(
+                request.getUserId(),
+                request.getMessage(),
+                request.getConversationId()
+            );
+            return ResponseEntity.ok(emitter);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Chat stream rejected, all workers busy");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+    }
+    
     @GetMapping("/history/{userId}")
     public ResponseEntity<?> getChatHistory(
             @PathVariable Long userId,
@@ -180,6 +212,11 @@ public class ChatController {
         }
     }
     
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getResponseCacheStats() {
+        return ResponseEntity.ok(llmResponseCache.getStats());
+    }
+    
     // Request DTO
     public static class ChatMessageRequest {
         private Long userId;
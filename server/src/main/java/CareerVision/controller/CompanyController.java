@@ -2,6 +2,7 @@ package CareerVision.controller;
 
 import CareerVision.model.Company;
 import CareerVision.repository.CompanyRepository;
+import CareerVision.service.GeoIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +18,9 @@ public class CompanyController {
     @Autowired
     CompanyRepository companyRepository;
 
+    @Autowired
+    GeoIndexService geoIndexService;
+
     @PostMapping("/create")
     public ResponseEntity<?> createCompany(@RequestBody Company company){
         try{
@@ -25,6 +29,7 @@ public class CompanyController {
             }
 
             Company savedCompany= companyRepository.save(company);
+            geoIndexService.updateCompany(savedCompany);
             return ResponseEntity.ok(company);
         }
         catch(Exception e){
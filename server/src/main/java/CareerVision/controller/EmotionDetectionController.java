@@ -1,5 +1,6 @@
 package CareerVision.controller;
 
+import CareerVision.config.OutboundHttpClients;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
@@ -10,9 +11,13 @@ import java.util.Map;
 @RequestMapping("/api/emotion")
 public class EmotionDetectionController {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final String PYTHON_API_URL = "http://localhost:5001/analyze-emotion";
 
+    public EmotionDetectionController(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.restTemplate("emotion-detector");
+    }
+
     @PostMapping("/analyze")
     public ResponseEntity<?> analyzeEmotion(@RequestBody Map<String, String> request) {
         try {
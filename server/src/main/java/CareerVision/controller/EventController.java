@@ -1,13 +1,21 @@
 package CareerVision.controller;
 
+import CareerVision.dto.EventSummary;
+import CareerVision.dto.ParticipantSummary;
 import CareerVision.model.Event;
 import CareerVision.model.Participant;
+import CareerVision.service.EmailOutboxService;
+import CareerVision.service.EventNotificationService;
 import CareerVision.service.EventService;
+import CareerVision.service.ParticipantCounterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -17,8 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
-import org.hibernate.Hibernate;
 
 @RestController
 @RequestMapping("/api/events")
@@ -29,6 +37,21 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EventNotificationService eventNotificationService;
+
+    @Autowired
+    private ParticipantCounterService participantCounterService;
+
+    @Value("${events.participants.default-page-size:50}")
+    private int defaultParticipantPageSize;
+
+    @Value("${events.participants.max-page-size:200}")
+    private int maxParticipantPageSize;
+
     @PostMapping
     @Operation(summary = "Create a new event", description = "Allows creating a new event with full details")
     public ResponseEntity<?> createEvent(@Validated @RequestBody Event event) {
@@ -56,10 +79,10 @@ public class EventController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all upcoming events", description = "Retrieves a list of all upcoming public events")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
+    @Operation(summary = "Get all upcoming events", description = "Retrieves upcoming public events with participant counts")
+    public ResponseEntity<List<EventSummary>> getUpcomingEvents(@RequestParam(required = false) Long userId) {
         try {
-            List<Event> events = eventService.getUpcomingEvents();
+            List<EventSummary> events = eventService.getUpcomingEvents(userId);
             logger.info("Retrieved {} upcoming events", events.size());
             return ResponseEntity.ok(events);
         } catch (Exception e) {
@@ -72,7 +95,8 @@ public class EventController {
     @Operation(summary = "Get events by type", description = "Retrieves events of a specific type")
     public ResponseEntity<?> getEventsByType(
         @PathVariable String eventType, 
-        @RequestParam(required = false, defaultValue = "false") boolean includeDetails
+        @RequestParam(required = false, defaultValue = "false") boolean includeDetails,
+        @RequestParam(required = false) Long userId
     ) {
         try {
             // Convert string to enum, handling potential invalid input
@@ -89,15 +113,11 @@ public class EventController {
                     ));
             }
 
-            // Fetch events
-            List<Event> events = eventService.getEventsByType(parsedEventType);
+            // Fetch events (participant counts come from the same query)
+            List<EventSummary> events = eventService.getEventsByType(parsedEventType, userId);
             
-            // If details are requested, return full event information
+            // If details are requested, return full event information; participants are paged separately
             if (includeDetails) {
-                // Manually initialize lazy-loaded collections
-                for (Event event : events) {
-                    Hibernate.initialize(event.getParticipants());
-                }
                 return ResponseEntity.ok(events);
             }
             
@@ -109,9 +129,7 @@ public class EventController {
                     simplified.put("title", event.getTitle());
                     simplified.put("eventDate", event.getEventDate());
                     simplified.put("location", event.getLocation());
-                    simplified.put("participantsCount", 
-                        event.getParticipants() != null ? event.getParticipants().size() : 0
-                    );
+                    simplified.put("participantsCount", event.getParticipantCount());
                     return simplified;
                 })
                 .collect(Collectors.toList());
@@ -160,18 +178,77 @@ public class EventController {
     }
 
     @GetMapping("/{eventId}/participants")
-    @Operation(summary = "Get event participants", description = "Retrieves all participants for a specific event")
-    public ResponseEntity<List<Participant>> getEventParticipants(@PathVariable Long eventId) {
+    @Operation(summary = "Get event participants", description = "Retrieves one page of registered participants; the total is in X-Total-Count")
+    public ResponseEntity<List<ParticipantSummary>> getEventParticipants(
+        @PathVariable Long eventId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(required = false) Integer size
+    ) {
         try {
-            List<Participant> participants = eventService.getEventParticipants(eventId);
-            logger.info("Retrieved {} participants for event {}", participants.size(), eventId);
-            return ResponseEntity.ok(participants);
+            int pageSize = Math.min(size != null && size > 0 ? size : defaultParticipantPageSize, maxParticipantPageSize);
+            Page<ParticipantSummary> participants = eventService.getEventParticipants(eventId, Math.max(page, 0), pageSize);
+            logger.info("Retrieved {} of {} participants for event {}",
+                participants.getNumberOfElements(), participants.getTotalElements(), eventId);
+            return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(participants.getTotalElements()))
+                .body(participants.getContent());
         } catch (Exception e) {
             logger.error("Error retrieving event participants", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @PostMapping("/{eventId}/broadcast")
+    @Operation(summary = "Email all participants", description = "Queues an update mail to everyone registered for the event")
+    public ResponseEntity<?> broadcastToParticipants(@PathVariable Long eventId, @RequestBody BroadcastRequest request) {
+        if (request.getSubject() == null || request.getSubject().isBlank()
+                || request.getMessage() == null || request.getMessage().isBlank()) {
+            return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("Validation Error", "Subject and message are required"));
+        }
+        try {
+            eventNotificationService.broadcast(eventId, request.getSubject(), request.getMessage());
+            Map<String, Object> response = new HashMap<>();
+            response.put("eventId", eventId);
+            response.put("status", "queued");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("Broadcast Error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Broadcast queue full, rejecting broadcast for event {}", eventId);
+            return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(new ErrorResponse("Broadcast Error", "Too many broadcasts in progress, try again later"));
+        }
+    }
+
+    @GetMapping("/mail/stats")
+    @Operation(summary = "Event mail outbox statistics", description = "Sent, retried, failed and pending notification mail")
+    public ResponseEntity<Map<String, Object>> getMailStats() {
+        return ResponseEntity.ok(emailOutboxService.getStats());
+    }
+
+    @GetMapping("/counters/stats")
+    @Operation(summary = "Participant counter statistics", description = "Pending and flushed participant count deltas")
+    public ResponseEntity<Map<String, Object>> getCounterStats() {
+        return ResponseEntity.ok(participantCounterService.getStats());
+    }
+
+    // Body of a participant broadcast
+    public static class BroadcastRequest {
+        private String subject;
+        private String message;
+
+        public String getSubject() { return subject; }
+        public void setSubject(String subject) { this.subject = subject; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
     // Error response class for consistent error handling
     public static class ErrorResponse {
         private String status;
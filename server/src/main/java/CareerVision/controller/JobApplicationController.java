@@ -1,5 +1,10 @@
 package CareerVision.controller;
 
+import CareerVision.dto.ApplicationFilter;
+import CareerVision.dto.BatchMatchResult;
+import CareerVision.dto.NearbyApplicant;
+import CareerVision.dto.RankedCandidate;
+import CareerVision.dto.SkillMatchResult;
 import CareerVision.dto.UserJobDTO;
 import CareerVision.model.Job;
 import CareerVision.model.JobApplication;
@@ -7,21 +12,36 @@ import CareerVision.model.User;
 import CareerVision.repository.JobApplicationRepository;
 import CareerVision.repository.JobRepository;
 import CareerVision.repository.UserRepository;
+import CareerVision.service.ApplicationDistanceService;
+import CareerVision.service.CandidateRankingService;
+import CareerVision.service.GeoIndexService;
+import CareerVision.service.MatchScoreCacheService;
+import CareerVision.service.ResumeMatchingService;
+import CareerVision.service.SkillMatchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/api/applications")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = "X-Next-Cursor")
 public class JobApplicationController {
     private static final Logger log = LoggerFactory.getLogger(JobApplicationController.class);
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    @Value("${applications.filtered.default-limit:100}")
+    private int filteredDefaultLimit;
+
+    @Value("${applications.filtered.max-limit:500}")
+    private int filteredMaxLimit;
 
     @Autowired
     private JobApplicationRepository jobApplicationRepository;
@@ -32,6 +52,24 @@ public class JobApplicationController {
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private ResumeMatchingService resumeMatchingService;
+
+    @Autowired
+    private MatchScoreCacheService matchScoreCacheService;
+
+    @Autowired
+    private SkillMatchService skillMatchService;
+
+    @Autowired
+    private CandidateRankingService candidateRankingService;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
+
+    @Autowired
+    private ApplicationDistanceService applicationDistanceService;
+
     // Apply to a job
     @PostMapping("/apply")
     public ResponseEntity<?> applyToJob(@RequestBody UserJobDTO userJob) {
@@ -46,7 +84,8 @@ public class JobApplicationController {
         JobApplication application = new JobApplication();
         application.setApplicant(user);
         application.setJob(job);
-        application.setDistance(userJob.getDistance());
+        // Computed from stored coordinates; the client-supplied distance is ignored
+        application.setDistance(applicationDistanceService.distanceKm(user, job.getCompany()));
         jobApplicationRepository.save(application);
 
         return ResponseEntity.ok(application);
@@ -90,7 +129,8 @@ public class JobApplicationController {
         return ResponseEntity.ok(applications);
     }
 
-    // FILTERED ENDPOINT - uses the JOIN FETCH method internally
+    // FILTERED ENDPOINT - filtering, ordering and paging run in the database.
+    // Pass the X-Next-Cursor response header back as "cursor" to get the next page.
     @GetMapping("/filtered")
     public ResponseEntity<?> getFilteredApplications(
             @RequestParam Long jobId,
@@ -99,74 +139,34 @@ public class JobApplicationController {
             @RequestParam(defaultValue = "80") Double percentageThreshold,
             @RequestParam(defaultValue = "") String search,
             @RequestParam(defaultValue = "percentage") String sortBy,
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
     ) {
-        System.out.println("=== FILTERED ENDPOINT CALLED ===");
-        System.out.println("Job ID: " + jobId);
-        System.out.println("Filter Type: " + filterType);
-        System.out.println("Search: '" + search + "'");
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, filteredMaxLimit) : filteredDefaultLimit;
 
+        ApplicationFilter filter;
         try {
-            List<JobApplication> applications = getFilteredApplicationsInternal(
-                    jobId, filterType, locationThreshold, percentageThreshold, search, sortBy, limit
-            );
-
-            System.out.println("Returning " + applications.size() + " filtered applications");
-            return ResponseEntity.ok(applications);
-
-        } catch (Exception e) {
-            System.err.println("Error in filtered endpoint: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(500).body("Error: " + e.getMessage());
+            filter = new ApplicationFilter(jobId, filterType, locationThreshold, percentageThreshold,
+                    search, sortBy, ApplicationFilter.Cursor.parse(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor: " + cursor);
         }
-    }
-
-    private List<JobApplication> getFilteredApplicationsInternal(
-            Long jobId,
-            String filterType,
-            Double locationThreshold,
-            Double percentageThreshold,
-            String search,
-            String sortBy,
-            Integer limit
-    ) {
-        System.out.println("=== INTERNAL SERVICE DEBUG ===");
-        System.out.println("Job ID: " + jobId);
-        System.out.println("Filter Type: " + filterType);
-        System.out.println("Search: " + search);
-        System.out.println("Limit: " + limit);
 
         try {
-            // Use the JOIN FETCH method for filtering (needs applicant data)
-            List<JobApplication> applications = jobApplicationRepository
-                    .findByJobIdWithApplicant(jobId);
-
-            System.out.println("Raw applications found: " + applications.size());
-
-            // Apply filtering in Java
-            List<JobApplication> filtered = applications.stream()
-                    .filter(app -> applyFilters(app, filterType, locationThreshold, percentageThreshold, search))
-                    .sorted((a, b) -> applySorting(a, b, sortBy))
-                    .limit(limit != null && limit > 0 ? limit : Integer.MAX_VALUE)
-                    .collect(Collectors.toList());
-
-            System.out.println("Filtered applications: " + filtered.size());
-
-            // Debug each application
-            for (JobApplication app : filtered) {
-                System.out.println("App ID: " + app.getId() +
-                        ", Applicant: " + (app.getApplicant() != null ? app.getApplicant().getName() : "NULL APPLICANT") +
-                        ", Email: " + (app.getApplicant() != null ? app.getApplicant().getEmail() : "NULL EMAIL") +
-                        ", Status: " + app.getStatus() +
-                        ", Match%: " + app.getMatchPercentage() +
-                        ", Distance: " + app.getDistance());
+            List<JobApplication> applications = jobApplicationRepository.findFilteredPage(filter, pageSize);
+            log.debug("Filtered applications for job {} ({}, sort {}): {} rows",
+                    jobId, filterType, sortBy, applications.size());
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (applications.size() == pageSize) {
+                JobApplication last = applications.get(applications.size() - 1);
+                Double lastValue = filter.isSortByLocation() ? last.getDistance() : last.getMatchPercentage();
+                response.header(NEXT_CURSOR_HEADER, new ApplicationFilter.Cursor(lastValue, last.getId()).format());
             }
-
-            return filtered;
+            return response.body(applications);
         } catch (Exception e) {
-            System.err.println("ERROR in getFilteredApplications: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
+            log.error("Error in filtered endpoint for job {}", jobId, e);
+            return ResponseEntity.status(500).body("Error: " + e.getMessage());
         }
     }
 
@@ -213,43 +213,73 @@ public class JobApplicationController {
         }
     }
 
-    private boolean applyFilters(JobApplication app, String filterType, Double locationThreshold,
-                                 Double percentageThreshold, String search) {
-        // Filter by type
-        if ("location".equals(filterType) && app.getDistance() != null && app.getDistance() > locationThreshold) {
-            return false;
+    // Score every application for a job against the matcher in one batch
+    @PostMapping("/job/{jobId}/match-percentages")
+    public ResponseEntity<?> scoreApplicationsForJob(@PathVariable Long jobId) {
+        try {
+            BatchMatchResult result = resumeMatchingService.scoreApplicationsForJob(jobId);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Batch scoring failed for job {}", jobId, e);
+            return ResponseEntity.internalServerError().body("Error scoring applications: " + e.getMessage());
         }
-        if ("percentage".equals(filterType) && app.getMatchPercentage() != null && app.getMatchPercentage() < percentageThreshold) {
-            return false;
+    }
+
+    // Instant skill-overlap scores computed in the server, best first
+    @GetMapping("/job/{jobId}/skill-match")
+    public ResponseEntity<?> getSkillMatchForJob(@PathVariable Long jobId) {
+        try {
+            List<SkillMatchResult> results = skillMatchService.scoreApplicationsForJob(jobId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
+    }
 
-        // Filter by search
-        if (search != null && !search.trim().isEmpty()) {
-            String searchLower = search.toLowerCase();
-            User applicant = app.getApplicant();
-            if (applicant != null) {
-                String name = applicant.getName() != null ? applicant.getName().toLowerCase() : "";
-                String location = applicant.getLocation() != null ? applicant.getLocation().toLowerCase() : "";
-                if (!name.contains(searchLower) && !location.contains(searchLower)) {
-                    return false;
-                }
-            }
+    // Best candidates by weighted match percentage and distance
+    @GetMapping("/job/{jobId}/top-candidates")
+    public ResponseEntity<?> getTopCandidates(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(defaultValue = "0.8") double matchWeight,
+            @RequestParam(defaultValue = "0.2") double distanceWeight
+    ) {
+        if (limit <= 0 || limit > filteredMaxLimit) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + filteredMaxLimit);
+        }
+        if (matchWeight < 0 || distanceWeight < 0) {
+            return ResponseEntity.badRequest().body("Weights must not be negative");
         }
 
-        return true;
+        List<RankedCandidate> topCandidates =
+                candidateRankingService.rankTopCandidates(jobId, limit, matchWeight, distanceWeight);
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", jobId);
+        response.put("topCandidates", topCandidates);
+        return ResponseEntity.ok(response);
     }
 
-    private int applySorting(JobApplication a, JobApplication b, String sortBy) {
-        if ("location".equals(sortBy)) {
-            if (a.getDistance() == null && b.getDistance() == null) return 0;
-            if (a.getDistance() == null) return 1;
-            if (b.getDistance() == null) return -1;
-            return Double.compare(a.getDistance(), b.getDistance());
-        } else { // percentage
-            if (a.getMatchPercentage() == null && b.getMatchPercentage() == null) return 0;
-            if (a.getMatchPercentage() == null) return 1;
-            if (b.getMatchPercentage() == null) return -1;
-            return Double.compare(b.getMatchPercentage(), a.getMatchPercentage()); // DESC
+    // Applicants living within radiusKm of the hiring company, nearest first
+    @GetMapping("/job/{jobId}/nearby-applicants")
+    public ResponseEntity<?> getNearbyApplicants(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "10") double radiusKm
+    ) {
+        if (radiusKm <= 0) {
+            return ResponseEntity.badRequest().body("radiusKm must be positive");
         }
+        try {
+            List<NearbyApplicant> applicants = geoIndexService.applicantsNearJob(jobId, radiusKm);
+            return ResponseEntity.ok(applicants);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/match-cache/stats")
+    public ResponseEntity<?> getMatchCacheStats() {
+        return ResponseEntity.ok(matchScoreCacheService.getStats());
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,14 @@
 package CareerVision.controller;
 
 import CareerVision.dto.JobDTO;
+import CareerVision.dto.JobSearchResult;
+import CareerVision.dto.NearbyJob;
 import CareerVision.model.Job;
 import CareerVision.repository.JobRepository;
-import CareerVision.service.JobSearchService;
+import CareerVision.service.GeoIndexService;
+import CareerVision.service.JobSearchCacheService;
+import CareerVision.service.JobSearchFanOutService;
+import CareerVision.service.MatchScoreCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,11 +25,26 @@ public class JobController {
     private JobRepository jobRepository;
 
     @Autowired
-    private JobSearchService jobSearchService;
+    private JobSearchCacheService jobSearchCacheService;
+
+    @Autowired
+    private JobSearchFanOutService jobSearchFanOutService;
+
+    @Autowired
+    private MatchScoreCacheService matchScoreCacheService;
+
+    @Autowired
+    private GeoIndexService geoIndexService;
 
     @PostMapping("/create")
     public String createJob(@RequestBody Job job) {
-        jobRepository.save(job);
+        boolean existing = job.getId() != null;
+        Job saved = jobRepository.save(job);
+
+        // Re-posting an existing job may change its description/skills
+        if (existing) {
+            matchScoreCacheService.evictStaleForJob(saved);
+        }
         return "Job posted successfully";
     }
 
@@ -44,6 +64,21 @@ public class JobController {
         }
     }
 
+    // Jobs at companies within radiusKm of the user, nearest first
+    @GetMapping("/near/{userId}")
+    public ResponseEntity<?> getJobsNearUser(@PathVariable Long userId,
+                                             @RequestParam(defaultValue = "25") double radiusKm) {
+        if (radiusKm <= 0) {
+            return ResponseEntity.badRequest().body("radiusKm must be positive");
+        }
+        try {
+            List<NearbyJob> jobs = geoIndexService.jobsNearUser(userId, radiusKm);
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
 //    @GetMapping("/by/{email}")
 //    public List<Job> getJobsByRecruiter(@PathVariable String email) {
 //        return jobRepository.findByPostedBy(email);
@@ -51,7 +86,22 @@ public class JobController {
 
     // return list of DTOs from Adzuna API
     @GetMapping("/external")
-    public List<JobDTO> getExternalJobs(@RequestParam String keyword, @RequestParam String location) {
-        return jobSearchService.searchJobs(keyword, location);
+    public List<JobDTO> getExternalJobs(@RequestParam String keyword, @RequestParam String location,
+                                        @RequestParam(defaultValue = "1") int page) {
+        return jobSearchCacheService.search(keyword, location, Math.max(1, page));
+    }
+
+    // Several pages fetched concurrently and merged; partial=true if any page missed the deadline.
+    // timeoutMs is capped at adzuna.fanout.max-deadline-ms
+    @GetMapping("/external/all")
+    public JobSearchResult getExternalJobsAllPages(@RequestParam String keyword, @RequestParam String location,
+                                                   @RequestParam(defaultValue = "3") int pages,
+                                                   @RequestParam(required = false) Long timeoutMs) {
+        return jobSearchFanOutService.searchPages(keyword, location, pages, timeoutMs);
+    }
+
+    @GetMapping("/external/stats")
+    public ResponseEntity<?> getExternalSearchStats() {
+        return ResponseEntity.ok(jobSearchCacheService.getStats());
     }
 }
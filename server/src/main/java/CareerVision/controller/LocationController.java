@@ -5,6 +5,8 @@ import CareerVision.model.Company;
 import CareerVision.model.User;
 import CareerVision.repository.CompanyRepository;
 import CareerVision.repository.UserRepository;
+import CareerVision.service.ApplicationDistanceService;
+import CareerVision.service.GeoIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,10 @@ public class LocationController {
     UserRepository userRepository;
     @Autowired
     CompanyRepository companyRepository;
+    @Autowired
+    GeoIndexService geoIndexService;
+    @Autowired
+    ApplicationDistanceService applicationDistanceService;
 
     @PostMapping("/user/{userId}")
     public ResponseEntity<?> userLocation(@RequestBody LocationDTO locationDTO, @PathVariable Long userId){
@@ -30,6 +36,8 @@ public class LocationController {
             user.setLat(locationDTO.getLatitude());
             user.setLon(locationDTO.getLongitude());
             userRepository.save(user);
+            geoIndexService.updateUser(user);
+            applicationDistanceService.recomputeForUser(user);
             return ResponseEntity.ok(user);
         }
         catch(Exception e){
@@ -47,6 +55,8 @@ public class LocationController {
             company.setLat(locationDTO.getLatitude());
             company.setLon(locationDTO.getLongitude());
             companyRepository.save(company);
+            geoIndexService.updateCompany(company);
+            applicationDistanceService.recomputeForCompany(company);
             return ResponseEntity.ok().body(company);
         }
         catch(Exception e){
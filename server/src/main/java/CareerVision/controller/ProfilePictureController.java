@@ -48,7 +48,7 @@ public class ProfilePictureController {
             // Generate unique filename
             String fileName = "profile_" + userId + "_" + System.currentTimeMillis() + getFileExtension(file.getContentType());
             // Upload to Supabase
-            String fileUrl = SupabaseStorageService.uploadProfilePicture(
+            String fileUrl = supabaseStorageService.uploadProfilePicture(
                     file.getBytes(),
                     fileName,
                     file.getContentType()
@@ -114,7 +114,7 @@ public class ProfilePictureController {
                         // Delete from Supabase
                         String fileName = user.getProfilePictureUrl()
                                 .substring(user.getProfilePictureUrl().lastIndexOf("/") + 1);
-                        SupabaseStorageService.deleteProfilePicture(fileName);
+                        supabaseStorageService.deleteProfilePicture(fileName);
                         // Update user record
                         user.setProfilePictureUrl(null);
                         userRepository.save(user);
@@ -1,12 +1,18 @@
 package CareerVision.controller;
 
+import CareerVision.dto.ResumeJobStatus;
 import CareerVision.model.CVData;
 import CareerVision.model.User;
 import CareerVision.repository.CVDataRepository;
 import CareerVision.repository.UserRepository;
 import CareerVision.service.PDFExtractorService;
+import CareerVision.service.ResumeIngestionService;
+import CareerVision.service.ResumeProcessingQueue;
+import CareerVision.service.ResumeTextCacheService;
 import CareerVision.service.SupabaseStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -14,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/resume")
@@ -28,6 +35,18 @@ public class ResumeController {
     @Autowired
     private PDFExtractorService pdfExtractorService;
 
+    @Autowired
+    private ResumeIngestionService resumeIngestionService;
+
+    @Autowired
+    private SupabaseStorageService supabaseStorageService;
+
+    @Autowired
+    private ResumeProcessingQueue resumeProcessingQueue;
+
+    @Autowired
+    private ResumeTextCacheService resumeTextCacheService;
+
     @PostMapping("/upload")
     public ResponseEntity<?> uploadResume(
             @RequestParam("file") MultipartFile file,
@@ -53,31 +72,28 @@ public class ResumeController {
                 ));
             }
 
-            // Generate unique filename
-            String fileName = "resume_" + userId + "_" + System.currentTimeMillis() + ".pdf";
-
-            // Upload to Supabase
-            String fileUrl = SupabaseStorageService.uploadFile(
+            // Read the body on the request thread; the temp file is gone once we return
+            ResumeJobStatus job = resumeProcessingQueue.submit(
+                    user,
                     file.getBytes(),
-                    fileName,
                     file.getContentType()
             );
 
-            // Save URL to user profile
-            user.setResumePath(fileUrl);
-            userRepository.save(user);
-
-            // Extract and save text
-            String extractedText = pdfExtractorService.extractTextFromUrl(fileUrl);
-            saveCVData(user, extractedText);
-
-            return ResponseEntity.ok().body(Map.of(
-                    "status", "success",
-                    "message", "Resume uploaded and processed successfully",
-                    "url", fileUrl,
-                    "fileName", fileName
+            return ResponseEntity.accepted().body(Map.of(
+                    "status", "accepted",
+                    "message", "Resume queued for processing",
+                    "jobId", job.getJobId(),
+                    "fileName", job.getFileName(),
+                    "statusUrl", "/api/resume/jobs/" + job.getJobId()
             ));
 
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(Map.of(
+                            "status", "error",
+                            "message", "Resume processing queue is full, please retry shortly"
+                    ));
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body(Map.of(
                     "status", "error",
@@ -93,6 +109,21 @@ public class ResumeController {
         }
     }
 
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJobStatus(@PathVariable String jobId) {
+        return resumeProcessingQueue.getJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                        "status", "error",
+                        "message", "Job not found"
+                )));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(resumeTextCacheService.getStats());
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> getResumeUrl(@PathVariable Long userId) {
         return userRepository.findById(userId)
@@ -138,7 +169,7 @@ public class ResumeController {
 
             try {
                 String extractedText = pdfExtractorService.extractTextFromUrl(user.getResumePath());
-                saveCVData(user, extractedText);
+                resumeIngestionService.saveCVData(user, extractedText);
                 return ResponseEntity.ok(Map.of(
                         "status", "success",
                         "text", extractedText,
@@ -158,14 +189,6 @@ public class ResumeController {
         )));
     }
 
-    private void saveCVData(User user, String extractedText) {
-        CVData cvData = cvDataRepository.findByUser(user)
-                .orElse(new CVData());
-        cvData.setUser(user);
-        cvData.setExtractedText(extractedText);
-        cvDataRepository.save(cvData);
-    }
-
     @DeleteMapping("/delete/{userId}")
     public ResponseEntity<?> deleteResume(@PathVariable Long userId) {
         return userRepository.findById(userId)
@@ -181,7 +204,7 @@ public class ResumeController {
                         // Delete from Supabase
                         String fileName = user.getResumePath()
                                 .substring(user.getResumePath().lastIndexOf("/") + 1);
-                        SupabaseStorageService.deleteFile(fileName);
+                        supabaseStorageService.deleteFile(fileName);
 
                         // Update user record
                         user.setResumePath(null);
@@ -4,13 +4,19 @@ import CareerVision.dto.RoadmapRequest;
 import CareerVision.dto.RoadmapResponse;
 import CareerVision.model.Roadmap;
 import CareerVision.service.RoadmapService;
+import CareerVision.service.RoadmapStreamingService;
+import CareerVision.service.RoadmapTemplateCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/roadmap")
@@ -21,6 +27,12 @@ public class RoadmapController {
     @Autowired
     private RoadmapService roadmapService;
 
+    @Autowired
+    private RoadmapStreamingService roadmapStreamingService;
+
+    @Autowired
+    private RoadmapTemplateCacheService roadmapTemplateCacheService;
+
     @PostMapping("/generate")
     public ResponseEntity<RoadmapResponse> generateRoadmap(@RequestBody RoadmapRequest request) {
         try {
@@ -74,6 +86,20 @@ public class RoadmapController {
         }
     }
 
+    // Sections are sent as server-sent events while the roadmap is generated
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRoadmap(@RequestBody RoadmapRequest request) {
+        try {
+            logger.info("Received streaming roadmap request for user: {}", request.getUserId());
+            return ResponseEntity.ok(roadmapStreamingService.stream(request));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Roadmap stream rejected, all workers busy");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "10")
+                    .build();
+        }
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Roadmap>> getRoadmapsByUser(@PathVariable Long userId) {
         try {
@@ -97,4 +123,9 @@ public class RoadmapController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getRoadmapCacheStats() {
+        return ResponseEntity.ok(roadmapTemplateCacheService.getStats());
+    }
+}
@@ -0,0 +1,54 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criteria for the /api/applications/filtered query. Results are ordered by
+ * match percentage (high to low) or distance (near to far), with the
+ * application id as tie-breaker and rows missing the sort value last. The
+ * cursor is the position of the last row of the previous page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicationFilter {
+    private Long jobId;
+    private String filterType;
+    private Double locationThreshold;
+    private Double percentageThreshold;
+    private String search;
+    private String sortBy;
+    private Cursor cursor;
+
+    public boolean isSortByLocation() {
+        return "location".equals(sortBy);
+    }
+
+    // Keyset position: the last row's sort value (null once past the valued rows) and id
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Cursor {
+        private Double value;
+        private Long id;
+
+        public static Cursor parse(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            int separator = token.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            String value = token.substring(0, separator);
+            Long id = Long.valueOf(token.substring(separator + 1));
+            return new Cursor("null".equals(value) ? null : Double.valueOf(value), id);
+        }
+
+        public String format() {
+            return value + ":" + id;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchMatchResult {
+    private Long jobId;
+    private int scored;
+
+    // Applicants without extracted resume text
+    private int skipped;
+
+    private int failed;
+    private long elapsedMs;
+
+    // Application id -> match percentage
+    private Map<Long, Double> scores;
+}
@@ -0,0 +1,16 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BroadcastResult {
+    private Long eventId;
+    private int recipients;
+    private int sent;
+    private int failed;
+    private long elapsedMs;
+}
@@ -0,0 +1,38 @@
+package CareerVision.dto;
+
+import CareerVision.model.Event;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Event list row with its stored registered participant count, built by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+public class EventSummary {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime eventDate;
+    private String location;
+    private String organizerEmail;
+    private Event.EventType eventType;
+    private boolean isPublic;
+    private long participantCount;
+
+    // Whether the requesting user is registered; null when no user was given
+    private Boolean registered;
+
+    public EventSummary(Long id, String title, String description, LocalDateTime eventDate, String location,
+                        String organizerEmail, Event.EventType eventType, boolean isPublic, long participantCount) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.eventDate = eventDate;
+        this.location = location;
+        this.organizerEmail = organizerEmail;
+        this.eventType = eventType;
+        this.isPublic = isPublic;
+        this.participantCount = participantCount;
+    }
+}
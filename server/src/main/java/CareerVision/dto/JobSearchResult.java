@@ -0,0 +1,21 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobSearchResult {
+    private List<JobDTO> jobs;
+    private int pagesRequested;
+    private int pagesReturned;
+
+    // True when some pages failed or missed the deadline
+    private boolean partial;
+
+    private long elapsedMs;
+}
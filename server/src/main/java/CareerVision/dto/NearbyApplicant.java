@@ -0,0 +1,17 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyApplicant {
+    private Long applicationId;
+    private Long userId;
+    private String userName;
+    private String status;
+    private Double matchPercentage;
+    private double distanceKm;
+}
@@ -0,0 +1,14 @@
+package CareerVision.dto;
+
+import CareerVision.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyJob {
+    private Job job;
+    private double distanceKm;
+}
@@ -0,0 +1,20 @@
+package CareerVision.dto;
+
+import CareerVision.model.Participant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ParticipantSummary {
+    private Long id;
+    private Long userId;
+    private String name;
+    private String email;
+    private LocalDateTime registrationDate;
+    private Participant.RegistrationStatus status;
+}
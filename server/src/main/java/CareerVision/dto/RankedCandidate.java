@@ -0,0 +1,17 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankedCandidate {
+    private Long applicationId;
+    private Long userId;
+    private String userName;
+    private double matchPercentage;
+    private double distance;
+    private double finalScore;
+}
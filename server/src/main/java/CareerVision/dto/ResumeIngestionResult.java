@@ -0,0 +1,19 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumeIngestionResult {
+    private String fileUrl;
+    private String fileName;
+    private String extractedText;
+
+    // Stage name -> elapsed milliseconds, in pipeline order
+    private Map<String, Long> timings;
+}
@@ -0,0 +1,45 @@
+package CareerVision.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class ResumeJobStatus {
+    private String jobId;
+    private Long userId;
+    private String fileName;
+
+    private volatile Status status = Status.QUEUED;
+
+    // Current pipeline stage while PROCESSING (extracting, uploading, saving)
+    private volatile String stage;
+
+    private volatile String fileUrl;
+    private volatile String error;
+    private volatile Map<String, Long> timings;
+
+    private LocalDateTime submittedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED,
+        PROCESSING,
+        COMPLETED,
+        FAILED
+    }
+
+    public ResumeJobStatus(String jobId, Long userId, String fileName) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -42,6 +42,9 @@ public class RoadmapRequest {
     // Feedback
     private String feedback;
 
+    // False forces a fresh generation even if this profile has a cached roadmap
+    private Boolean allowCached;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,19 @@
+package CareerVision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillMatchResult {
+    private Long applicationId;
+    private Long userId;
+    private String userName;
+    private double skillMatchPercentage;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+}
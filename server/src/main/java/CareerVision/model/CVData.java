@@ -22,4 +22,8 @@ public class CVData {
 
     @Column(columnDefinition = "TEXT", length = 10000)
     private String analysisJson;
+
+    // Text cache key: SHA-256 of the PDF hash and the extraction caps the text was cut under
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 }
@@ -1,6 +1,8 @@
 package CareerVision.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,8 +42,19 @@ public class Event {
     @Column(nullable = false)
     private boolean isPublic = true;
 
-    // Change to EAGER loading and initialize with empty list
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    // Materialized participant counts; written only by ParticipantCounterService's bulk updates.
+    // @ColumnDefault rather than columnDefinition, which Hibernate would also use to cast bulk-update parameters
+    @ColumnDefault("0")
+    @Column(name = "registered_count", nullable = false, insertable = false, updatable = false)
+    private long registeredCount;
+
+    @ColumnDefault("0")
+    @Column(name = "cancelled_count", nullable = false, insertable = false, updatable = false)
+    private long cancelledCount;
+
+    // Lazy and never serialized: lists use EventSummary counts, participants are paged on demand
+    @JsonIgnore
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Participant> participants = new ArrayList<>();
 
     // Enum for event types
@@ -113,6 +126,10 @@ public class Event {
     public boolean isPublic() { return isPublic; }
     public void setPublic(boolean isPublic) { this.isPublic = isPublic; }
 
+    public long getRegisteredCount() { return registeredCount; }
+
+    public long getCancelledCount() { return cancelledCount; }
+
     // Add method to safely get participants
     public List<Participant> getParticipants() {
         return participants != null ? participants : new ArrayList<>();
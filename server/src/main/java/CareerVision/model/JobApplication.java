@@ -4,6 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        // Keyset paging for /api/applications/filtered
+        @Index(name = "idx_job_application_job_match", columnList = "job_id, match_percentage, id"),
+        @Index(name = "idx_job_application_job_distance", columnList = "job_id, distance, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
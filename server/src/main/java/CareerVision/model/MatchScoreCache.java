@@ -0,0 +1,44 @@
+package CareerVision.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Matcher result for one job/resume pair, valid only while both content hashes still match
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "match_score_cache",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "job_hash", "cv_hash"}),
+        indexes = @Index(name = "idx_match_score_cache_cv_hash", columnList = "cv_hash"))
+public class MatchScoreCache {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "job_hash", length = 64, nullable = false)
+    private String jobHash;
+
+    @Column(name = "cv_hash", length = 64, nullable = false)
+    private String cvHash;
+
+    @Column(name = "match_percentage", nullable = false)
+    private Double matchPercentage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
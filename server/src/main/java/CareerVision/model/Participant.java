@@ -1,20 +1,28 @@
 package CareerVision.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_participants")
+@Table(name = "event_participants", indexes = {
+    // Per-event participant pages and counts
+    @Index(name = "idx_event_participants_event_status", columnList = "event_id, status, id")
+}, uniqueConstraints = {
+    // One registration per user and event; also serves registration lookups by user
+    @UniqueConstraint(name = "uk_event_participants_user_event", columnNames = {"user_id", "event_id"})
+})
 public class Participant {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -50,6 +58,9 @@ public class Participant {
     public void setId(Long id) { this.id = id; }
 
     public Event getEvent() { return event; }
+
+    // Serialized in place of the event itself; reading a proxy's id does not load it
+    public Long getEventId() { return event != null ? event.getId() : null; }
     public void setEvent(Event event) { this.event = event; }
 
     public User getUser() { return user; }
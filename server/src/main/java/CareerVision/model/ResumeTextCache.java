@@ -0,0 +1,33 @@
+package CareerVision.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Extracted resume text keyed by the SHA-256 of the PDF bytes plus the extraction caps
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "resume_text_cache")
+public class ResumeTextCache {
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String extractedText;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package CareerVision.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Generated roadmap markdown keyed by the SHA-256 of the canonical request profile
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "roadmap_template_cache")
+public class RoadmapTemplateCache {
+    @Id
+    @Column(name = "profile_hash", length = 64)
+    private String profileHash;
+
+    @Column(name = "profile", columnDefinition = "TEXT")
+    private String profile;
+
+    @Column(name = "generated_roadmap", columnDefinition = "TEXT")
+    private String generatedRoadmap;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
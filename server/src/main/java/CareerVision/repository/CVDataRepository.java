@@ -4,8 +4,12 @@ import CareerVision.model.CVData;
 import CareerVision.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CVDataRepository extends JpaRepository<CVData, Long> {
     Optional<CVData> findByUser(User user);
+
+    List<CVData> findByUserIdIn(Collection<Long> userIds);
 }
@@ -2,11 +2,16 @@ package CareerVision.repository;
 
 import CareerVision.model.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     Optional<Company> findByName(String name);
 
+    // [id, lat, lon] of every company with a location, for the geo index
+    @Query("SELECT c.id, c.lat, c.lon FROM Company c WHERE c.lat IS NOT NULL AND c.lon IS NOT NULL")
+    List<Object[]> findAllCoordinates();
 
 }
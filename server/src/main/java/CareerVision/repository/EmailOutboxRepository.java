@@ -0,0 +1,37 @@
+package CareerVision.repository;
+
+import CareerVision.model.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT o.id FROM EmailOutbox o WHERE o.status = CareerVision.model.EmailOutbox.Status.PENDING " +
+           "AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Moves a row from PENDING to SENDING; 0 means another dispatcher got it first
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = CareerVision.model.EmailOutbox.Status.SENDING, o.claimedAt = :now " +
+           "WHERE o.id = :id AND o.status = CareerVision.model.EmailOutbox.Status.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Rows left in SENDING by a crashed or stopped instance
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = CareerVision.model.EmailOutbox.Status.PENDING, o.claimedAt = null " +
+           "WHERE o.status = CareerVision.model.EmailOutbox.Status.SENDING AND o.claimedAt < :cutoff")
+    int releaseStaleClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(EmailOutbox.Status status);
+}
@@ -1,10 +1,13 @@
 package CareerVision.repository;
 
+import CareerVision.dto.EventSummary;
 import CareerVision.model.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +21,36 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.eventDate > :currentDate AND e.isPublic = true ORDER BY e.eventDate ASC")
     List<Event> findUpcomingPublicEvents(@Param("currentDate") LocalDateTime currentDate);
 
+    // Upcoming public events with their stored participant counts; no join against participants
+    @Query("SELECT new CareerVision.dto.EventSummary(e.id, e.title, e.description, e.eventDate, e.location, " +
+           "e.organizerEmail, e.eventType, e.isPublic, e.registeredCount) " +
+           "FROM Event e WHERE e.eventDate > :currentDate AND e.isPublic = true ORDER BY e.eventDate ASC")
+    List<EventSummary> findUpcomingPublicEventSummaries(@Param("currentDate") LocalDateTime currentDate);
+
+    // Events of one type with their stored participant counts
+    @Query("SELECT new CareerVision.dto.EventSummary(e.id, e.title, e.description, e.eventDate, e.location, " +
+           "e.organizerEmail, e.eventType, e.isPublic, e.registeredCount) " +
+           "FROM Event e WHERE e.eventType = :eventType ORDER BY e.eventDate ASC")
+    List<EventSummary> findEventSummariesByType(@Param("eventType") Event.EventType eventType);
+
+    // Applies counter deltas; relative so concurrent flushes from several instances add up
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.registeredCount = e.registeredCount + :registered, " +
+           "e.cancelledCount = e.cancelledCount + :cancelled WHERE e.id = :id")
+    int addParticipantCounts(@Param("id") Long id, @Param("registered") long registered,
+                             @Param("cancelled") long cancelled);
+
+    // Recomputes every stored count from event_participants
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET " +
+           "e.registeredCount = (SELECT COUNT(p) FROM Participant p WHERE p.event.id = e.id " +
+           "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED), " +
+           "e.cancelledCount = (SELECT COUNT(p) FROM Participant p WHERE p.event.id = e.id " +
+           "AND p.status = CareerVision.model.Participant.RegistrationStatus.CANCELLED)")
+    int reconcileParticipantCounts();
+
     // Find events by organizer email
     List<Event> findByOrganizerEmail(String organizerEmail);
 
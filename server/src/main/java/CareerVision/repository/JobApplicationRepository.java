@@ -3,17 +3,20 @@ package CareerVision.repository;
 import CareerVision.model.JobApplication;
 import CareerVision.model.User;
 import CareerVision.model.Job;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>, JobApplicationRepositoryCustom {
     List<JobApplication> findByApplicant(User user);
     List<JobApplication> findByJob(Job job);
     List<JobApplication> findByApplicantId(Long applicantId);
@@ -26,30 +29,33 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
             "WHERE ja.job.id = :jobId")
     List<JobApplication> findByJobIdWithApplicant(@Param("jobId") Long jobId);
 
-    // Enhanced version with filtering
-    @Query(value = "SELECT ja FROM JobApplication ja " +
+    @Query("SELECT ja FROM JobApplication ja " +
             "JOIN FETCH ja.applicant a " +
-            "WHERE ja.job.id = :jobId " +
-            "AND (:filterType = 'all' OR " +
-            "     (:filterType = 'location' AND ja.distance <= :locationThreshold) OR " +
-            "     (:filterType = 'percentage' AND ja.matchPercentage >= :percentageThreshold)) " +
-            "AND (:search = '' OR :search IS NULL OR " +
-            "     LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            "     LOWER(a.location) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-            "ORDER BY " +
-            "CASE WHEN :sortBy = 'location' THEN ja.distance END ASC, " +
-            "CASE WHEN :sortBy = 'percentage' THEN ja.matchPercentage END DESC",
-            countQuery = "SELECT COUNT(ja) FROM JobApplication ja " +
-                    "JOIN ja.applicant a " +
-                    "WHERE ja.job.id = :jobId")
-    Page<JobApplication> findFilteredApplicationsWithApplicant(
-            @Param("jobId") Long jobId,
-            @Param("filterType") String filterType,
-            @Param("locationThreshold") Double locationThreshold,
-            @Param("percentageThreshold") Double percentageThreshold,
-            @Param("search") String search,
-            @Param("sortBy") String sortBy,
-            Pageable pageable
-    );
+            "WHERE ja.job.id = :jobId AND a.id IN :applicantIds")
+    List<JobApplication> findByJobIdAndApplicantIdIn(@Param("jobId") Long jobId,
+                                                     @Param("applicantIds") Collection<Long> applicantIds);
+
+    @Query("SELECT ja FROM JobApplication ja " +
+            "JOIN FETCH ja.applicant " +
+            "WHERE ja.job.company.id = :companyId")
+    List<JobApplication> findByCompanyIdWithApplicant(@Param("companyId") Long companyId);
+
+    @Query("SELECT ja FROM JobApplication ja " +
+            "JOIN FETCH ja.job j " +
+            "LEFT JOIN FETCH j.company " +
+            "WHERE ja.applicant.id = :applicantId")
+    List<JobApplication> findByApplicantIdWithCompany(@Param("applicantId") Long applicantId);
+
+    // Largest stored distance among a job's applications, null when there is none
+    @Query("SELECT MAX(ja.distance) FROM JobApplication ja WHERE ja.job.id = :jobId")
+    Double findMaxDistanceByJobId(@Param("jobId") Long jobId);
+
+    // Only the columns candidate ranking needs: [id, applicantId, applicantName, matchPercentage, distance].
+    // Streamed with a fetch size so rows are read in batches; callers must close the stream inside a transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT ja.id, a.id, a.name, ja.matchPercentage, ja.distance FROM JobApplication ja " +
+            "LEFT JOIN ja.applicant a " +
+            "WHERE ja.job.id = :jobId ORDER BY ja.id")
+    Stream<Object[]> streamRankingRowsByJobId(@Param("jobId") Long jobId);
 
 }
@@ -0,0 +1,18 @@
+package CareerVision.repository;
+
+import CareerVision.dto.ApplicationFilter;
+import CareerVision.model.JobApplication;
+
+import java.util.List;
+import java.util.Map;
+
+public interface JobApplicationRepositoryCustom {
+    // One keyset page of applications (with applicant, if any) matching the filter
+    List<JobApplication> findFilteredPage(ApplicationFilter filter, int limit);
+
+    // Writes only match_percentage for each application id, as one JDBC batch; returns rows changed
+    int updateMatchPercentages(Map<Long, Double> percentages);
+
+    // Writes only distance for each application id (null clears it), as one JDBC batch; returns rows changed
+    int updateDistances(Map<Long, Double> distances);
+}
@@ -0,0 +1,160 @@
+package CareerVision.repository;
+
+import CareerVision.dto.ApplicationFilter;
+import CareerVision.model.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtered, keyset-paginated application lookup. Rows with a sort value are
+ * read first in index order (job_id, sort column, id); rows without one
+ * follow ordered by id. Each query is limited to what the page still needs,
+ * so the database never returns more than {@code limit} rows.
+ */
+public class JobApplicationRepositoryImpl implements JobApplicationRepositoryCustom {
+
+    // Same rule as JobApplication.updateMatchPercentage: leave scores that moved by 0.01 or less alone
+    private static final String UPDATE_MATCH_PERCENTAGE_SQL =
+            "UPDATE job_application SET match_percentage = ? " +
+            "WHERE id = ? AND (match_percentage IS NULL OR ABS(match_percentage - ?) > 0.01)";
+
+    private static final String UPDATE_DISTANCE_SQL = "UPDATE job_application SET distance = ? WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<JobApplication> findFilteredPage(ApplicationFilter filter, int limit) {
+        boolean ascending = filter.isSortByLocation();
+        String sortColumn = ascending ? "ja.distance" : "ja.matchPercentage";
+        String direction = ascending ? "ASC" : "DESC";
+        String after = ascending ? ">" : "<";
+        ApplicationFilter.Cursor cursor = filter.getCursor();
+
+        List<JobApplication> page = new ArrayList<>();
+
+        // Rows that have a sort value
+        if (cursor == null || cursor.getValue() != null) {
+            StringBuilder jpql = baseQuery(filter);
+            jpql.append(" AND ").append(sortColumn).append(" IS NOT NULL");
+            if (cursor != null) {
+                jpql.append(" AND (").append(sortColumn).append(' ').append(after).append(" :afterValue")
+                        .append(" OR (").append(sortColumn).append(" = :afterValue AND ja.id ")
+                        .append(after).append(" :afterId))");
+            }
+            jpql.append(" ORDER BY ").append(sortColumn).append(' ').append(direction)
+                    .append(", ja.id ").append(direction);
+
+            TypedQuery<JobApplication> query = createQuery(jpql, filter);
+            if (cursor != null) {
+                query.setParameter("afterValue", cursor.getValue());
+                query.setParameter("afterId", cursor.getId());
+            }
+            page.addAll(query.setMaxResults(limit).getResultList());
+        }
+
+        // Then rows without one
+        if (page.size() < limit) {
+            boolean resumeInNullRows = cursor != null && cursor.getValue() == null;
+            StringBuilder jpql = baseQuery(filter);
+            jpql.append(" AND ").append(sortColumn).append(" IS NULL");
+            if (resumeInNullRows) {
+                jpql.append(" AND ja.id ").append(after).append(" :afterId");
+            }
+            jpql.append(" ORDER BY ja.id ").append(direction);
+
+            TypedQuery<JobApplication> query = createQuery(jpql, filter);
+            if (resumeInNullRows) {
+                query.setParameter("afterId", cursor.getId());
+            }
+            page.addAll(query.setMaxResults(limit - page.size()).getResultList());
+        }
+
+        return page;
+    }
+
+    @Override
+    @Transactional
+    public int updateMatchPercentages(Map<Long, Double> percentages) {
+        if (percentages.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>(percentages.size());
+        percentages.forEach((id, percentage) -> rows.add(new Object[]{percentage, id, percentage}));
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_MATCH_PERCENTAGE_SQL, rows)) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int updateDistances(Map<Long, Double> distances) {
+        if (distances.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>(distances.size());
+        distances.forEach((id, distance) -> rows.add(new Object[]{distance, id}));
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_DISTANCE_SQL, rows, new int[]{Types.DOUBLE, Types.BIGINT})) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    private StringBuilder baseQuery(ApplicationFilter filter) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT ja FROM JobApplication ja LEFT JOIN FETCH ja.applicant a WHERE ja.job.id = :jobId");
+
+        // Threshold filters only exclude rows that have a value, as before
+        if ("location".equals(filter.getFilterType()) && filter.getLocationThreshold() != null) {
+            jpql.append(" AND (ja.distance IS NULL OR ja.distance <= :locationThreshold)");
+        }
+        if ("percentage".equals(filter.getFilterType()) && filter.getPercentageThreshold() != null) {
+            jpql.append(" AND (ja.matchPercentage IS NULL OR ja.matchPercentage >= :percentageThreshold)");
+        }
+        if (hasSearch(filter)) {
+            jpql.append(" AND (LOWER(a.name) LIKE :search ESCAPE '!' OR LOWER(a.location) LIKE :search ESCAPE '!')");
+        }
+        return jpql;
+    }
+
+    private TypedQuery<JobApplication> createQuery(StringBuilder jpql, ApplicationFilter filter) {
+        TypedQuery<JobApplication> query = entityManager.createQuery(jpql.toString(), JobApplication.class);
+        query.setParameter("jobId", filter.getJobId());
+        if ("location".equals(filter.getFilterType()) && filter.getLocationThreshold() != null) {
+            query.setParameter("locationThreshold", filter.getLocationThreshold());
+        }
+        if ("percentage".equals(filter.getFilterType()) && filter.getPercentageThreshold() != null) {
+            query.setParameter("percentageThreshold", filter.getPercentageThreshold());
+        }
+        if (hasSearch(filter)) {
+            query.setParameter("search", "%" + escapeLike(filter.getSearch().trim().toLowerCase()) + "%");
+        }
+        return query;
+    }
+
+    // Searches are literal text; '%' and '_' typed by the user must not act as wildcards
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private boolean hasSearch(ApplicationFilter filter) {
+        return filter.getSearch() != null && !filter.getSearch().trim().isEmpty();
+    }
+}
@@ -2,8 +2,10 @@ package CareerVision.repository;
 
 import CareerVision.model.Job;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
-
+    List<Job> findByCompanyIdIn(Collection<Long> companyIds);
 }
@@ -0,0 +1,27 @@
+package CareerVision.repository;
+
+import CareerVision.model.MatchScoreCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface MatchScoreCacheRepository extends JpaRepository<MatchScoreCache, Long> {
+    Optional<MatchScoreCache> findByJobIdAndJobHashAndCvHash(Long jobId, String jobHash, String cvHash);
+
+    // Drop scores computed against older versions of a job
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MatchScoreCache m WHERE m.jobId = :jobId AND m.jobHash <> :jobHash")
+    int deleteStaleForJob(@Param("jobId") Long jobId, @Param("jobHash") String jobHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MatchScoreCache m WHERE m.cvHash = :cvHash")
+    int deleteByCvHash(@Param("cvHash") String cvHash);
+}
@@ -1,18 +1,27 @@
 package CareerVision.repository;
 
+import CareerVision.dto.ParticipantSummary;
 import CareerVision.model.Participant;
+import CareerVision.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
-    // Find participants by event ID
-    List<Participant> findByEventId(Long eventId);
+    // Find participants by event ID. Explicit queries here and below, because the
+    // derived-name parser would resolve "eventId" against Participant.getEventId()
+    @Query("SELECT p FROM Participant p WHERE p.event.id = :eventId")
+    List<Participant> findByEventId(@Param("eventId") Long eventId);
 
     // Find participants by user ID
     List<Participant> findByUserId(Long userId);
@@ -24,8 +33,35 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
         @Param("userId") Long userId
     );
 
+    // Cancels a registration unless it already is; 1 means this call cancelled it
+    @Transactional
+    @Modifying
+    @Query("UPDATE Participant p SET p.status = CareerVision.model.Participant.RegistrationStatus.CANCELLED " +
+           "WHERE p.event.id = :eventId AND p.user.id = :userId " +
+           "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED")
+    int cancel(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // Users still registered for an event, without loading the Participant rows
+    @Query("SELECT p.user FROM Participant p WHERE p.event.id = :eventId " +
+           "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED")
+    List<User> findActiveUsersByEventId(@Param("eventId") Long eventId);
+
+    // One page of an event's registered participants with their user details
+    @Query(value = "SELECT new CareerVision.dto.ParticipantSummary(p.id, u.id, u.name, u.email, p.registrationDate, p.status) " +
+                   "FROM Participant p JOIN p.user u WHERE p.event.id = :eventId " +
+                   "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED ORDER BY p.id",
+           countQuery = "SELECT COUNT(p) FROM Participant p WHERE p.event.id = :eventId " +
+                        "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED")
+    Page<ParticipantSummary> findSummariesByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    // Which of the given events the user is registered for
+    @Query("SELECT p.event.id FROM Participant p WHERE p.user.id = :userId AND p.event.id IN :eventIds " +
+           "AND p.status <> CareerVision.model.Participant.RegistrationStatus.CANCELLED")
+    List<Long> findRegisteredEventIds(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
     // Count participants for a specific event
-    long countByEventId(Long eventId);
+    @Query("SELECT COUNT(p) FROM Participant p WHERE p.event.id = :eventId")
+    long countByEventId(@Param("eventId") Long eventId);
 
     // Find participants with a specific registration status
     List<Participant> findByStatus(Participant.RegistrationStatus status);
@@ -0,0 +1,9 @@
+package CareerVision.repository;
+
+import CareerVision.model.ResumeTextCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeTextCacheRepository extends JpaRepository<ResumeTextCache, String> {
+}
@@ -0,0 +1,9 @@
+package CareerVision.repository;
+
+import CareerVision.model.RoadmapTemplateCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoadmapTemplateCacheRepository extends JpaRepository<RoadmapTemplateCache, String> {
+}
@@ -2,9 +2,15 @@ package CareerVision.repository;
 
 import CareerVision.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // [id, lat, lon] of every user with a location, for the geo index
+    @Query("SELECT u.id, u.lat, u.lon FROM User u WHERE u.lat IS NOT NULL AND u.lon IS NOT NULL")
+    List<Object[]> findAllCoordinates();
 }
@@ -0,0 +1,114 @@
+package CareerVision.service;
+
+import CareerVision.model.Company;
+import CareerVision.model.JobApplication;
+import CareerVision.model.User;
+import CareerVision.repository.JobApplicationRepository;
+import CareerVision.util.GeoDistance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owns {@link JobApplication#getDistance()}: the applicant-to-company
+ * distance in km, computed from stored coordinates rather than taken from
+ * the client. When either side moves, the affected applications are
+ * recomputed in one pass over primitive arrays, and only the distance
+ * column of the changed rows is written back, as one JDBC batch, so a status
+ * or match score committed meanwhile is never overwritten with stale values.
+ */
+@Service
+public class ApplicationDistanceService {
+    private static final Logger log = LoggerFactory.getLogger(ApplicationDistanceService.class);
+
+    // Changes smaller than this are not worth an UPDATE
+    private static final double EPSILON_KM = 1e-6;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    // Null when either location is unknown
+    public Double distanceKm(User user, Company company) {
+        if (user == null || company == null || user.getLat() == null || user.getLon() == null
+                || company.getLat() == null || company.getLon() == null) {
+            return null;
+        }
+        return GeoDistance.haversineKm(company.getLat(), company.getLon(), user.getLat(), user.getLon());
+    }
+
+    @Transactional
+    public int recomputeForCompany(Company company) {
+        long start = System.nanoTime();
+        List<JobApplication> applications = jobApplicationRepository.findByCompanyIdWithApplicant(company.getId());
+        int n = applications.size();
+
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            User applicant = applications.get(i).getApplicant();
+            lats[i] = coordinate(applicant.getLat());
+            lons[i] = coordinate(applicant.getLon());
+        }
+
+        double[] distances = new double[n];
+        if (company.getLat() != null && company.getLon() != null) {
+            GeoDistance.haversineKm(company.getLat(), company.getLon(), lats, lons, distances, n);
+        } else {
+            Arrays.fill(distances, Double.NaN);
+        }
+
+        int updated = writeBack(applications, distances);
+        log.info("Recomputed distances for company {}: {} of {} applications changed in {} ms",
+                company.getId(), updated, n, (System.nanoTime() - start) / 1_000_000);
+        return updated;
+    }
+
+    @Transactional
+    public int recomputeForUser(User user) {
+        List<JobApplication> applications = jobApplicationRepository.findByApplicantIdWithCompany(user.getId());
+        int n = applications.size();
+
+        double[] userLats = new double[n];
+        double[] userLons = new double[n];
+        double[] companyLats = new double[n];
+        double[] companyLons = new double[n];
+        for (int i = 0; i < n; i++) {
+            Company company = applications.get(i).getJob().getCompany();
+            userLats[i] = coordinate(user.getLat());
+            userLons[i] = coordinate(user.getLon());
+            companyLats[i] = company != null ? coordinate(company.getLat()) : Double.NaN;
+            companyLons[i] = company != null ? coordinate(company.getLon()) : Double.NaN;
+        }
+
+        double[] distances = new double[n];
+        GeoDistance.haversineKm(companyLats, companyLons, userLats, userLons, distances, n);
+        return writeBack(applications, distances);
+    }
+
+    // Leaves the loaded entities untouched so the flush at commit has nothing to write
+    private int writeBack(List<JobApplication> applications, double[] distances) {
+        Map<Long, Double> changed = new HashMap<>();
+        for (int i = 0; i < distances.length; i++) {
+            JobApplication app = applications.get(i);
+            Double distance = Double.isNaN(distances[i]) ? null : distances[i];
+            Double current = app.getDistance();
+            boolean same = distance == null ? current == null
+                    : current != null && Math.abs(current - distance) < EPSILON_KM;
+            if (!same) {
+                changed.put(app.getId(), distance);
+            }
+        }
+        return jobApplicationRepository.updateDistances(changed);
+    }
+
+    private static double coordinate(Float value) {
+        return value != null ? value : Double.NaN;
+    }
+}
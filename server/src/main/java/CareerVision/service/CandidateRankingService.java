@@ -0,0 +1,51 @@
+package CareerVision.service;
+
+import CareerVision.dto.RankedCandidate;
+import CareerVision.repository.JobApplicationRepository;
+import CareerVision.util.TopKSelector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Suitability ranking of a job's applicants, formerly the suitable-matcher
+ * service. Each application scores
+ * {@code match * matchWeight + (100 - distance / maxDistance * 100) * distanceWeight},
+ * with missing values counted as 0. The maximum distance comes from an
+ * aggregate query, then the ranking rows are streamed through a bounded
+ * {@link TopKSelector}, so memory stays at O(limit) however many people applied.
+ */
+@Service
+public class CandidateRankingService {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Transactional(readOnly = true)
+    public List<RankedCandidate> rankTopCandidates(Long jobId, int limit, double matchWeight, double distanceWeight) {
+        Double storedMax = jobApplicationRepository.findMaxDistanceByJobId(jobId);
+        double maxDistance = storedMax != null && storedMax > 0 ? storedMax : 1;
+
+        TopKSelector<RankedCandidate> selector = new TopKSelector<>(limit);
+        try (Stream<Object[]> rows = jobApplicationRepository.streamRankingRowsByJobId(jobId)) {
+            rows.forEach(row -> {
+                double match = row[3] != null ? ((Number) row[3]).doubleValue() : 0;
+                double distance = row[4] != null ? ((Number) row[4]).doubleValue() : 0;
+                double distanceScore = Math.max(0, 100 - distance / maxDistance * 100);
+                double score = match * matchWeight + distanceScore * distanceWeight;
+
+                selector.offer(score, new RankedCandidate(
+                        (Long) row[0],
+                        (Long) row[1],
+                        row[2] != null ? (String) row[2] : "Unknown",
+                        match,
+                        distance,
+                        Math.round(score * 100) / 100.0));
+            });
+        }
+        return selector.bestFirst();
+    }
+}
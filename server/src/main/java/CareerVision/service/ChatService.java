@@ -11,12 +11,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @Transactional
@@ -71,6 +73,31 @@ public class ChatService {
         }
     }
     
+    /**
+     * Like {@link #sendMessage} but forwards the answer to {@code onChunk}
+     * while it is being generated. Runs outside a transaction so no database
+     * connection is held for the length of the stream; the message is saved
+     * once the answer is complete.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessage streamMessage(Long userId, String message, String conversationId, Consumer<String> onChunk) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        if (conversationId == null || conversationId.isEmpty()) {
+            conversationId = generateConversationId();
+        }
+
+        String botResponse = geminiService.streamCareerAdvice(message, buildUserContext(user), onChunk);
+
+        ChatMessage chatMessage = new ChatMessage(user, message, botResponse, conversationId);
+        chatMessage.setMessageType(determineMessageType(message));
+
+        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+        logger.info("Streamed chat message saved with ID: {}", savedMessage.getId());
+        return savedMessage;
+    }
+
     public List<ChatMessage> getChatHistory(Long userId, int limit) {
         Optional<User> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
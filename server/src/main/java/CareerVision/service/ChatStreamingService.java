@@ -0,0 +1,74 @@
+package CareerVision.service;
+
+import CareerVision.model.ChatMessage;
+import CareerVision.util.BoundedExecutors;
+import CareerVision.util.SseStream;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs streamed chat answers on a small worker pool and relays them over
+ * SSE: a "token" event per text fragment, then "done" with the saved
+ * message's metadata (or "error"). If the client disconnects, the answer
+ * is still read to the end and saved so it shows up in the history.
+ */
+@Service
+public class ChatStreamingService {
+    private static final Logger logger = LoggerFactory.getLogger(ChatStreamingService.class);
+
+    @Autowired
+    private ChatService chatService;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public ChatStreamingService(
+            @Value("${chat.stream.workers:16}") int workers,
+            @Value("${chat.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${chat.stream.timeout-ms:120000}") long timeoutMs) {
+        this.executor = BoundedExecutors.newBoundedPool("chat-stream", workers, queueCapacity);
+        this.timeoutMs = timeoutMs;
+    }
+
+    // Throws RejectedExecutionException when all stream workers are busy
+    public SseEmitter stream(Long userId, String message, String conversationId) {
+        SseStream stream = new SseStream(timeoutMs);
+
+        executor.execute(() -> {
+            try {
+                ChatMessage saved = chatService.streamMessage(userId, message, conversationId,
+                        chunk -> stream.send("token", Map.of("text", chunk)));
+
+                Map<String, Object> done = new HashMap<>();
+                done.put("id", saved.getId());
+                done.put("conversationId", saved.getConversationId());
+                done.put("messageType", saved.getMessageType());
+                done.put("timestamp", saved.getCreatedAt());
+                done.put("status", "success");
+                stream.send("done", done);
+            } catch (Exception e) {
+                logger.error("Error streaming chat message: ", e);
+                Map<String, Object> error = new HashMap<>();
+                error.put("status", "error");
+                error.put("message", "Failed to process your message. Please try again.");
+                stream.send("error", error);
+            }
+            stream.complete();
+        });
+        return stream.getEmitter();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,211 @@
+package CareerVision.service;
+
+import CareerVision.model.EmailOutbox;
+import CareerVision.model.Event;
+import CareerVision.model.User;
+import CareerVision.repository.EmailOutboxRepository;
+import CareerVision.repository.EventRepository;
+import CareerVision.repository.UserRepository;
+import CareerVision.util.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transactional outbox for event mail. {@link #enqueue} writes an
+ * email_outbox row inside the caller's transaction, so a registration and its
+ * confirmation commit or roll back together, and no SMTP work happens on the
+ * request thread. After commit the row is handed to a bounded mail executor;
+ * a scheduled poll picks up anything that was not sent immediately (executor
+ * full, failed attempt due for retry, instance restarted). Each row is
+ * claimed with a conditional update before sending, so it goes out once even
+ * if the poll and the after-commit hand-off race. Failures are retried with
+ * exponential backoff up to {@code mail.outbox.max-attempts}.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseSeconds;
+    private final long claimTimeoutMinutes;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public EmailOutboxService(
+            @Value("${mail.executor.threads:4}") int threads,
+            @Value("${mail.executor.queue-capacity:200}") int queueCapacity,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.retry-base-seconds:30}") long retryBaseSeconds,
+            @Value("${mail.outbox.claim-timeout-minutes:10}") long claimTimeoutMinutes) {
+        this.executor = BoundedExecutors.newBoundedPool("mail-sender", threads, queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+        this.claimTimeoutMinutes = claimTimeoutMinutes;
+    }
+
+    // Must join the caller's transaction: the mail is only queued if that transaction commits
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmailOutbox enqueue(EmailOutbox.EmailType type, Long eventId, Long userId) {
+        EmailOutbox saved = emailOutboxRepository.save(new EmailOutbox(type, eventId, userId));
+        Long id = saved.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(id);
+            }
+        });
+        return saved;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void pollOutbox() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = emailOutboxRepository.releaseStaleClaims(now.minusMinutes(claimTimeoutMinutes));
+        if (released > 0) {
+            logger.warn("Released {} outbox mails stuck in SENDING", released);
+        }
+
+        List<Long> dueIds = emailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        for (Long id : dueIds) {
+            if (!submit(id)) {
+                break;
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("sent", sent.get());
+        stats.put("retried", retried.get());
+        stats.put("failed", failed.get());
+        stats.put("pending", emailOutboxRepository.countByStatus(EmailOutbox.Status.PENDING));
+        stats.put("queued", executor.getQueue().size());
+        stats.put("active", executor.getActiveCount());
+        return stats;
+    }
+
+    // False when the mail executor is full; the row stays PENDING for the next poll
+    private boolean submit(Long id) {
+        if (!queued.add(id)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> deliver(id));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(id);
+            logger.debug("Mail executor full, outbox mail {} left for the next poll", id);
+            return false;
+        }
+    }
+
+    private void deliver(Long id) {
+        queued.remove(id);
+        try {
+            if (emailOutboxRepository.claim(id, LocalDateTime.now()) == 0) {
+                return;
+            }
+            EmailOutbox mail = emailOutboxRepository.findById(id).orElse(null);
+            if (mail == null) {
+                return;
+            }
+
+            try {
+                send(mail);
+                mail.setStatus(EmailOutbox.Status.SENT);
+                mail.setSentAt(LocalDateTime.now());
+                mail.setLastError(null);
+                sent.incrementAndGet();
+            } catch (Exception e) {
+                recordFailure(mail, e);
+            }
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setClaimedAt(null);
+            emailOutboxRepository.save(mail);
+        } catch (Exception e) {
+            // Database trouble; a claimed row is released by the next poll once the claim times out
+            logger.error("Could not process outbox mail {}", id, e);
+        }
+    }
+
+    private void send(EmailOutbox mail) throws Exception {
+        Event event = eventRepository.findById(mail.getEventId())
+                .orElseThrow(() -> new IllegalStateException("Event " + mail.getEventId() + " no longer exists"));
+
+        switch (mail.getType()) {
+            case EVENT_CREATED -> emailService.sendEventCreationConfirmation(event);
+            case EVENT_REGISTRATION -> emailService.sendEventRegistrationConfirmation(event, findUser(mail));
+            case EVENT_CANCELLATION -> emailService.sendEventCancellationConfirmation(event, findUser(mail));
+        }
+    }
+
+    private User findUser(EmailOutbox mail) {
+        return userRepository.findById(mail.getUserId())
+                .orElseThrow(() -> new IllegalStateException("User " + mail.getUserId() + " no longer exists"));
+    }
+
+    private void recordFailure(EmailOutbox mail, Exception e) {
+        int attempt = mail.getAttempts() + 1;
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        mail.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (attempt >= maxAttempts) {
+            mail.setStatus(EmailOutbox.Status.FAILED);
+            failed.incrementAndGet();
+            logger.error("Giving up on {} mail {} after {} attempts: {}", mail.getType(), mail.getId(), attempt, error);
+            return;
+        }
+
+        long delaySeconds = retryBaseSeconds << Math.min(attempt - 1, 10);
+        mail.setStatus(EmailOutbox.Status.PENDING);
+        mail.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        retried.incrementAndGet();
+        logger.warn("{} mail {} failed (attempt {}), retrying in {}s: {}",
+                mail.getType(), mail.getId(), attempt, delaySeconds, error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
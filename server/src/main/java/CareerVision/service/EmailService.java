@@ -1,117 +1,183 @@
 package CareerVision.service;
 
+import CareerVision.dto.BroadcastResult;
 import CareerVision.model.Event;
 import CareerVision.model.User;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.nio.charset.StandardCharsets;
-import java.time.format.DateTimeFormatter;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders and sends event mail over SMTP. Calls block for the SMTP round-trip
+ * and throw on failure; they are made from the mail executor in
+ * {@link EmailOutboxService}, which retries, never from a request thread.
+ */
 @Service
 public class EmailService {
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
+
     @Autowired
     private JavaMailSender emailSender;
 
     @Autowired
-    private SpringTemplateEngine templateEngine;
+    private EmailTemplateService templateService;
 
-    @Async
-    public void sendEventCreationConfirmation(Event event) {
-        try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(
-                message, 
-                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, 
-                StandardCharsets.UTF_8.name()
-            );
-
-            Context context = new Context();
-            context.setVariable("event", event);
-            context.setVariable("formattedDate", 
-                event.getEventDate().format(DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' h:mm a"))
-            );
-
-            String htmlBody = templateEngine.process("emails/event-creation", context);
-
-            helper.setTo(event.getOrganizerEmail());
-            helper.setFrom("noreply@careervision.com");
-            helper.setSubject("Event Created Successfully: " + event.getTitle());
-            helper.setText(htmlBody, true);
-
-            emailSender.send(message);
-        } catch (MessagingException e) {
-            // Log error or handle appropriately
-            System.err.println("Failed to send event creation email: " + e.getMessage());
+    @Value("${mail.bulk.batch-size:100}")
+    private int bulkBatchSize;
+
+    @Value("${mail.bulk.max-per-second:200}")
+    private int bulkMaxPerSecond;
+
+    public void sendEventCreationConfirmation(Event event) throws MessagingException {
+        String htmlBody = templateService.render("emails/event-creation", Map.of(
+            "event", event,
+            "formattedDate", EmailTemplateService.formatEventDate(event.getEventDate())
+        ));
+        send(event.getOrganizerEmail(), "Event Created Successfully: " + event.getTitle(), htmlBody);
+    }
+
+    public void sendEventRegistrationConfirmation(Event event, User user) throws MessagingException {
+        String htmlBody = templateService.render("emails/event-registration", Map.of(
+            "event", event,
+            "user", user,
+            "formattedDate", EmailTemplateService.formatEventDate(event.getEventDate())
+        ));
+        send(user.getEmail(), "Event Registration Confirmation: " + event.getTitle(), htmlBody);
+    }
+
+    public void sendEventCancellationConfirmation(Event event, User user) throws MessagingException {
+        String htmlBody = templateService.render("emails/event-cancellation", Map.of(
+            "event", event,
+            "user", user,
+            "formattedDate", EmailTemplateService.formatEventDate(event.getEventDate())
+        ));
+        send(user.getEmail(), "Event Registration Cancelled: " + event.getTitle(), htmlBody);
+    }
+
+    private void send(String to, String subject, String htmlBody) throws MessagingException {
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(
+            message, 
+            MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, 
+            StandardCharsets.UTF_8.name()
+        );
+        helper.setTo(to);
+        helper.setFrom("noreply@careervision.com");
+        helper.setSubject(subject);
+        helper.setText(htmlBody, true);
+
+        emailSender.send(message);
+    }
+
+    /**
+     * Sends the same event update to many recipients. The template is
+     * prepared once with a slot for the recipient's name, which is the only
+     * per-message work besides building the MimeMessage. Messages
+     * go out in batches of {@code mail.bulk.batch-size}; each batch is one
+     * {@link JavaMailSender#send(MimeMessage...)} call and so one SMTP
+     * connection, and batches are paced to {@code mail.bulk.max-per-second}.
+     */
+    public BroadcastResult sendEventBroadcast(Event event, List<User> recipients, String subject, String message) {
+        long start = System.nanoTime();
+
+        EmailTemplateService.PreparedTemplate body = templateService.prepare("emails/event-broadcast", Map.of(
+            "event", event,
+            "message", message,
+            "formattedDate", EmailTemplateService.formatEventDate(event.getEventDate())
+        ), "recipientName");
+
+        int sent = 0;
+        int failed = 0;
+        List<MimeMessage> batch = new ArrayList<>(bulkBatchSize);
+        long batchStart = System.nanoTime();
+
+        for (User user : recipients) {
+            if (user.getEmail() == null || user.getEmail().isBlank()) {
+                failed++;
+                continue;
+            }
+            try {
+                batch.add(createBroadcastMessage(user, subject, body));
+            } catch (MessagingException e) {
+                logger.warn("Could not build broadcast mail for {}: {}", user.getEmail(), e.getMessage());
+                failed++;
+            }
+
+            if (batch.size() >= bulkBatchSize) {
+                int delivered = sendBatch(batch);
+                sent += delivered;
+                failed += batch.size() - delivered;
+                pace(batch.size(), batchStart);
+                batch.clear();
+                batchStart = System.nanoTime();
+            }
         }
+        if (!batch.isEmpty()) {
+            int delivered = sendBatch(batch);
+            sent += delivered;
+            failed += batch.size() - delivered;
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Broadcast for event {}: {} sent, {} failed in {} ms", event.getId(), sent, failed, elapsedMs);
+        return new BroadcastResult(event.getId(), recipients.size(), sent, failed, elapsedMs);
     }
 
-    @Async
-    public void sendEventRegistrationConfirmation(Event event, User user) {
+    private MimeMessage createBroadcastMessage(User user, String subject, EmailTemplateService.PreparedTemplate body)
+            throws MessagingException {
+        String name = user.getName() != null && !user.getName().isBlank() ? user.getName() : "there";
+        String htmlBody = body.fill(Map.of("recipientName", name));
+
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+        helper.setTo(user.getEmail());
+        helper.setFrom("noreply@careervision.com");
+        helper.setSubject(subject);
+        helper.setText(htmlBody, true);
+        return message;
+    }
+
+    // Returns how many messages in the batch were accepted by the server
+    private int sendBatch(List<MimeMessage> batch) {
         try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(
-                message, 
-                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, 
-                StandardCharsets.UTF_8.name()
-            );
-
-            Context context = new Context();
-            context.setVariable("event", event);
-            context.setVariable("user", user);
-            context.setVariable("formattedDate", 
-                event.getEventDate().format(DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' h:mm a"))
-            );
-
-            String htmlBody = templateEngine.process("emails/event-registration", context);
-
-            helper.setTo(user.getEmail());
-            helper.setFrom("noreply@careervision.com");
-            helper.setSubject("Event Registration Confirmation: " + event.getTitle());
-            helper.setText(htmlBody, true);
-
-            emailSender.send(message);
-        } catch (MessagingException e) {
-            // Log error or handle appropriately
-            System.err.println("Failed to send event registration email: " + e.getMessage());
+            emailSender.send(batch.toArray(new MimeMessage[0]));
+            return batch.size();
+        } catch (MailSendException e) {
+            logger.warn("{} of {} broadcast mails rejected: {}", e.getFailedMessages().size(), batch.size(), e.getMessage());
+            return batch.size() - e.getFailedMessages().size();
+        } catch (MailException e) {
+            logger.error("Broadcast batch of {} failed", batch.size(), e);
+            return 0;
         }
     }
 
-    @Async
-    public void sendEventCancellationConfirmation(Event event, User user) {
-        try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(
-                message, 
-                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, 
-                StandardCharsets.UTF_8.name()
-            );
-
-            Context context = new Context();
-            context.setVariable("event", event);
-            context.setVariable("user", user);
-            context.setVariable("formattedDate", 
-                event.getEventDate().format(DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' h:mm a"))
-            );
-
-            String htmlBody = templateEngine.process("emails/event-cancellation", context);
-
-            helper.setTo(user.getEmail());
-            helper.setFrom("noreply@careervision.com");
-            helper.setSubject("Event Registration Cancelled: " + event.getTitle());
-            helper.setText(htmlBody, true);
-
-            emailSender.send(message);
-        } catch (MessagingException e) {
-            // Log error or handle appropriately
-            System.err.println("Failed to send event cancellation email: " + e.getMessage());
+    // Sleeps off whatever is left of the batch's share of the per-second budget
+    private void pace(int batchSize, long batchStartNanos) {
+        if (bulkMaxPerSecond <= 0) {
+            return;
+        }
+        long budgetNanos = TimeUnit.SECONDS.toNanos(batchSize) / bulkMaxPerSecond;
+        long remainingNanos = budgetNanos - (System.nanoTime() - batchStartNanos);
+        if (remainingNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 }
@@ -0,0 +1,120 @@
+package CareerVision.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the email templates under templates/emails. Parsed templates are
+ * kept by Thymeleaf's template cache ({@code spring.thymeleaf.cache=true}),
+ * so a render is an evaluation of the cached DOM rather than a classpath read
+ * and parse. For mail that differs only in a few per-recipient fields,
+ * {@link #prepare} renders once with placeholders and returns a
+ * {@link PreparedTemplate} whose {@link PreparedTemplate#fill} is plain
+ * string concatenation.
+ */
+@Service
+public class EmailTemplateService {
+
+    public static final DateTimeFormatter EVENT_DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' h:mm a");
+
+    private static final String SLOT_PREFIX = "__CV_SLOT_";
+    private static final String SLOT_SUFFIX = "__";
+    private static final SecureRandom NONCE_SOURCE = new SecureRandom();
+
+    private final SpringTemplateEngine templateEngine;
+
+    public EmailTemplateService(SpringTemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    public static String formatEventDate(LocalDateTime eventDate) {
+        return eventDate.format(EVENT_DATE_FORMAT);
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        return templateEngine.process(template, new Context(Locale.getDefault(), variables));
+    }
+
+    /**
+     * Renders {@code template} once with each of {@code slotNames} bound to a
+     * placeholder. The slots are filled per recipient by
+     * {@link PreparedTemplate#fill}, which HTML-escapes the values, so slot
+     * variables must only be used as text ({@code th:text}), not in
+     * attributes or conditions. Placeholders carry a random per-call nonce,
+     * so text in the other variables (an organizer's message, say) cannot
+     * spell one out and have recipient data spliced into it.
+     */
+    public PreparedTemplate prepare(String template, Map<String, Object> variables, String... slotNames) {
+        String slotPrefix = SLOT_PREFIX + newNonce() + "_";
+        Context context = new Context(Locale.getDefault(), variables);
+        for (String slot : slotNames) {
+            context.setVariable(slot, slotPrefix + slot + SLOT_SUFFIX);
+        }
+        return PreparedTemplate.parse(templateEngine.process(template, context), slotPrefix);
+    }
+
+    private static String newNonce() {
+        byte[] nonce = new byte[16];
+        NONCE_SOURCE.nextBytes(nonce);
+        return HexFormat.of().formatHex(nonce);
+    }
+
+    // Rendered HTML split around its slot placeholders
+    public static final class PreparedTemplate {
+        private final String[] parts;
+        private final String[] slots;
+        private final int length;
+
+        private PreparedTemplate(String[] parts, String[] slots) {
+            this.parts = parts;
+            this.slots = slots;
+            int total = 0;
+            for (String part : parts) {
+                total += part.length();
+            }
+            this.length = total;
+        }
+
+        static PreparedTemplate parse(String html, String slotPrefix) {
+            List<String> parts = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            Matcher matcher = Pattern.compile(
+                    Pattern.quote(slotPrefix) + "([A-Za-z0-9]+)" + Pattern.quote(SLOT_SUFFIX)).matcher(html);
+            int last = 0;
+            while (matcher.find()) {
+                parts.add(html.substring(last, matcher.start()));
+                slots.add(matcher.group(1));
+                last = matcher.end();
+            }
+            parts.add(html.substring(last));
+            return new PreparedTemplate(parts.toArray(new String[0]), slots.toArray(new String[0]));
+        }
+
+        // Missing values are filled with an empty string
+        public String fill(Map<String, String> values) {
+            StringBuilder html = new StringBuilder(length + 64 * slots.length);
+            html.append(parts[0]);
+            for (int i = 0; i < slots.length; i++) {
+                String value = values.get(slots[i]);
+                if (value != null) {
+                    html.append(HtmlUtils.htmlEscape(value));
+                }
+                html.append(parts[i + 1]);
+            }
+            return html.toString();
+        }
+    }
+}
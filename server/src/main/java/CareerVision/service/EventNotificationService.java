@@ -0,0 +1,68 @@
+package CareerVision.service;
+
+import CareerVision.dto.BroadcastResult;
+import CareerVision.model.Event;
+import CareerVision.model.User;
+import CareerVision.repository.EventRepository;
+import CareerVision.repository.ParticipantRepository;
+import CareerVision.util.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Broadcasts an update to everyone registered for an event. Broadcasts run
+ * one at a time on a dedicated thread so a large send never competes with
+ * the confirmation mail executor; further broadcasts wait in a small queue
+ * and {@link #broadcast} throws RejectedExecutionException once it is full.
+ */
+@Service
+public class EventNotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventNotificationService.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    private final ThreadPoolExecutor executor;
+
+    public EventNotificationService(@Value("${mail.bulk.queue-capacity:10}") int queueCapacity) {
+        this.executor = BoundedExecutors.newBoundedPool("mail-broadcast", 1, queueCapacity);
+    }
+
+    // Queues the broadcast and returns the event; throws IllegalArgumentException if it does not exist
+    public Event broadcast(Long eventId, String subject, String message) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+
+        executor.execute(() -> {
+            try {
+                List<User> recipients = participantRepository.findActiveUsersByEventId(eventId);
+                BroadcastResult result = emailService.sendEventBroadcast(event, recipients, subject, message);
+                if (result.getFailed() > 0) {
+                    logger.warn("Broadcast for event {} finished with {} failures", eventId, result.getFailed());
+                }
+            } catch (Exception e) {
+                logger.error("Broadcast for event {} failed", eventId, e);
+            }
+        });
+        return event;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,5 +1,8 @@
 package CareerVision.service;
 
+import CareerVision.dto.EventSummary;
+import CareerVision.dto.ParticipantSummary;
+import CareerVision.model.EmailOutbox;
 import CareerVision.model.Event;
 import CareerVision.model.Participant;
 import CareerVision.model.User;
@@ -10,10 +13,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 @Service
@@ -30,7 +38,10 @@ public class EventService {
     private UserRepository userRepository;
 
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private ParticipantCounterService participantCounterService;
 
     // Create a new event
     @Transactional
@@ -44,12 +55,8 @@ public class EventService {
             
             logger.info("Event created successfully: {}", savedEvent);
 
-            // Send notification to organizer
-            try {
-                emailService.sendEventCreationConfirmation(savedEvent);
-            } catch (Exception e) {
-                logger.error("Failed to send event creation email", e);
-            }
+            // Queue notification to organizer; sent after commit by the mail executor
+            emailOutboxService.enqueue(EmailOutbox.EmailType.EVENT_CREATED, savedEvent.getId(), null);
 
             return savedEvent;
         } catch (Exception e) {
@@ -113,59 +120,60 @@ public class EventService {
             throw new RuntimeException("User already registered for this event");
         }
 
-        // Create new participant
-        Participant participant = new Participant(event, user);
-        Participant savedParticipant = participantRepository.save(participant);
+        // Create new participant; the unique (user, event) key catches a concurrent duplicate
+        Participant savedParticipant;
+        try {
+            savedParticipant = participantRepository.saveAndFlush(new Participant(event, user));
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("User already registered for this event");
+        }
+        participantCounterService.recordRegistration(eventId);
 
-        // Send registration confirmation email
-        emailService.sendEventRegistrationConfirmation(event, user);
+        // Queue registration confirmation email (outbox, sent after commit)
+        emailOutboxService.enqueue(EmailOutbox.EmailType.EVENT_REGISTRATION, eventId, userId);
 
         return savedParticipant;
     }
 
-    // Get all upcoming events
+    // Get all upcoming events with participant counts; userId, if given, fills in "registered"
     @Transactional(readOnly = true)
-    public List<Event> getUpcomingEvents() {
+    public List<EventSummary> getUpcomingEvents(Long userId) {
         LocalDateTime now = LocalDateTime.now();
         logger.info("Fetching upcoming events from current time: {}", now);
         
-        List<Event> events = eventRepository.findUpcomingPublicEvents(now);
+        List<EventSummary> events = eventRepository.findUpcomingPublicEventSummaries(now);
+        participantCounterService.applyPending(events);
+        markRegistered(events, userId);
         
         logger.info("Found {} upcoming events", events.size());
-        for (Event event : events) {
-            logger.debug("Event: id={}, title={}, date={}", 
-                event.getId(), event.getTitle(), event.getEventDate());
-        }
-        
         return events;
     }
 
-    // Get event participants
+    // Get one page of an event's registered participants
     @Transactional(readOnly = true)
-    public List<Participant> getEventParticipants(Long eventId) {
-        return participantRepository.findByEventId(eventId);
+    public Page<ParticipantSummary> getEventParticipants(Long eventId, int page, int size) {
+        return participantRepository.findSummariesByEventId(eventId, PageRequest.of(page, size));
     }
 
     // Cancel event registration
     @Transactional
     public void cancelEventRegistration(Long eventId, Long userId) {
-        Participant participant = participantRepository
-            .findByEventIdAndUserId(eventId, userId)
-            .orElseThrow(() -> new RuntimeException("Registration not found"));
-
-        participant.setStatus(Participant.RegistrationStatus.CANCELLED);
-        participantRepository.save(participant);
-
-        // Send cancellation email
-        emailService.sendEventCancellationConfirmation(
-            participant.getEvent(), 
-            participant.getUser()
-        );
+        // Conditional update, so of two concurrent cancellations only one counts and sends mail
+        if (participantRepository.cancel(eventId, userId) == 0) {
+            if (participantRepository.findByEventIdAndUserId(eventId, userId).isEmpty()) {
+                throw new RuntimeException("Registration not found");
+            }
+            return;
+        }
+        participantCounterService.recordCancellation(eventId);
+
+        // Queue cancellation email (outbox, sent after commit)
+        emailOutboxService.enqueue(EmailOutbox.EmailType.EVENT_CANCELLATION, eventId, userId);
     }
 
-    // Get events by type
+    // Get events by type with participant counts; userId, if given, fills in "registered"
     @Transactional(readOnly = true)
-    public List<Event> getEventsByType(Event.EventType eventType) {
+    public List<EventSummary> getEventsByType(Event.EventType eventType, Long userId) {
         // Validate input
         if (eventType == null) {
             logger.error("Attempted to fetch events with null event type");
@@ -173,25 +181,14 @@ public class EventService {
         }
 
         try {
-            // Fetch events by type
-            List<Event> events = eventRepository.findByEventType(eventType);
+            // Fetch events by type, participant counts included
+            List<EventSummary> events = eventRepository.findEventSummariesByType(eventType);
+            participantCounterService.applyPending(events);
+            markRegistered(events, userId);
             
             // Log details about retrieved events
             logger.info("Retrieved {} events of type {}", events.size(), eventType);
             
-            // Log details of each event for debugging
-            for (Event event : events) {
-                // Eagerly load participants
-                if (event.getParticipants() != null) {
-                    event.getParticipants().size(); // Force initialization
-                }
-                
-                logger.debug("Event details: id={}, title={}, date={}, location={}, participants={}", 
-                    event.getId(), event.getTitle(), event.getEventDate(), event.getLocation(), 
-                    event.getParticipants() != null ? event.getParticipants().size() : 0
-                );
-            }
-            
             return events;
         } catch (Exception e) {
             // Log the full error details
@@ -201,4 +198,16 @@ public class EventService {
             throw new RuntimeException("Failed to fetch events of type " + eventType, e);
         }
     }
+
+    // One query for the whole list, not one per event
+    private void markRegistered(List<EventSummary> events, Long userId) {
+        if (userId == null || events.isEmpty()) {
+            return;
+        }
+        List<Long> eventIds = events.stream().map(EventSummary::getId).toList();
+        Set<Long> registered = new HashSet<>(participantRepository.findRegisteredEventIds(userId, eventIds));
+        for (EventSummary event : events) {
+            event.setRegistered(registered.contains(event.getId()));
+        }
+    }
 }
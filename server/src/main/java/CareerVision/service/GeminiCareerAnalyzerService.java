@@ -1,5 +1,6 @@
 package CareerVision.service;
 
+import CareerVision.config.OutboundHttpClients;
 import CareerVision.dto.CareerProfileDTO;
 import CareerVision.model.CareerProfile;
 import CareerVision.repository.CareerProfileRepository;
@@ -17,9 +18,12 @@ import java.util.*;
 @RequiredArgsConstructor
 public class GeminiCareerAnalyzerService {
 
-    private final OkHttpClient httpClient = new OkHttpClient();
+    private final OutboundHttpClients outboundHttpClients;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final CareerProfileRepository careerRepository;
+    private final LlmResponseCache responseCache;
+
+    private static final String CACHE_FEATURE = "career-interests";
 
     @Value("${gemini.api.key}")
     private String geminiApiKey;
@@ -29,77 +33,17 @@ public class GeminiCareerAnalyzerService {
 
     public Map<String, Object> analyzeUserMessage(String userMessage) {
         try {
-            // ✅ Build a controlled, tag-compatible prompt
-            String prompt = """
-                You are a career guidance chatbot helping Bangladeshi students find career paths.
-
-                The user will describe their interests, hobbies, or goals in free-form text.
-
-                🎯 Your task:
-                1. Pick **exactly 2–3 tags** from this list ONLY:
-
-                ["STEM", "Arts", "Business", "Social", "Communication", "Public Service", "Teaching", "Health", "Legal", "Agriculture", "Freelancing", "Technology", "Leadership", "Creative", "Engineering"]
-
-                2. Write a short explanation for why these tags match the user's message.
-
-                🔒 Use ONLY tags from the list above — no new tags.
-
-                👨‍🎓 Example Input:
-                "I like creative freedom, freelance potential, and working across industries."
-
-                ✅ Example Output (strict JSON):
-                {
-                  "interestDomains": ["Creative", "Freelancing"],
-                  "explanation": "Your interest in creative freedom and freelancing aligns with career paths like graphic design, content creation, or marketing."
-                }
-
-                Now respond in ONLY that strict JSON format.
-
-                User input:
-                "%s"
-                """.formatted(userMessage);
-
-            // ✅ Build request body for Gemini
-            String requestJson = objectMapper.writeValueAsString(Map.of(
-                    "contents", List.of(
-                            Map.of("parts", List.of(
-                                    Map.of("text", prompt)
-                            ))
-                    )
-            ));
-
-            // ✅ Send HTTP request to Gemini
-            Request request = new Request.Builder()
-                    .url(GEMINI_URL + "?key=" + geminiApiKey)
-                    .post(RequestBody.create(requestJson, MediaType.get("application/json")))
-                    .addHeader("Content-Type", "application/json")
-                    .build();
-
-            Response response = httpClient.newCall(request).execute();
-            if (!response.isSuccessful()) throw new IOException("Gemini API call failed: " + response);
-
-            // ✅ Parse the full response
-            String responseBody = response.body().string();
-            JsonNode root = objectMapper.readTree(responseBody);
-
-            String text = root
-                    .path("candidates").get(0)
-                    .path("content")
-                    .path("parts").get(0)
-                    .path("text").asText();
-
-            System.out.println("🧠 Gemini raw output: " + text); // for debugging
-
-            // Remove Markdown-style code block if it exists
-            if (text.startsWith("```json") || text.startsWith("```")) {
-                text = text.replaceAll("(?s)```json|```", "").trim();
-            }
+            // The prompt carries no user context, so near-identical interest descriptions share one Gemini answer
+            Optional<String> cached = responseCache.lookup(CACHE_FEATURE, userMessage);
+            String text = cached.isPresent() ? cached.get() : requestInterestTags(userMessage);
 
-// Now safely parse
             JsonNode result = objectMapper.readTree(text);
 
             List<String> tags = objectMapper.convertValue(result.get("interestDomains"), List.class);
             String explanation = result.get("explanation").asText();
+            if (cached.isEmpty()) {
+                responseCache.put(CACHE_FEATURE, userMessage, text);
+            }
 
             // ✅ Query your DB for matching career profiles
             List<CareerProfile> matchedCareers = careerRepository.findByInterestTagsIn(tags);
@@ -123,4 +67,77 @@ public class GeminiCareerAnalyzerService {
             );
         }
     }
+
+    // Asks Gemini for the interest tags and returns its JSON answer text
+    private String requestInterestTags(String userMessage) throws IOException {
+        // ✅ Build a controlled, tag-compatible prompt
+        String prompt = """
+            You are a career guidance chatbot helping Bangladeshi students find career paths.
+
+            The user will describe their interests, hobbies, or goals in free-form text.
+
+            🎯 Your task:
+            1. Pick **exactly 2–3 tags** from this list ONLY:
+
+            ["STEM", "Arts", "Business", "Social", "Communication", "Public Service", "Teaching", "Health", "Legal", "Agriculture", "Freelancing", "Technology", "Leadership", "Creative", "Engineering"]
+
+            2. Write a short explanation for why these tags match the user's message.
+
+            🔒 Use ONLY tags from the list above — no new tags.
+
+            👨‍🎓 Example Input:
+            "I like creative freedom, freelance potential, and working across industries."
+
+            ✅ Example Output (strict JSON):
+            {
+              "interestDomains": ["Creative", "Freelancing"],
+              "explanation": "Your interest in creative freedom and freelancing aligns with career paths like graphic design, content creation, or marketing."
+            }
+
+            Now respond in ONLY that strict JSON format.
+
+            User input:
+            "%s"
+            """.formatted(userMessage);
+
+        // ✅ Build request body for Gemini
+        String requestJson = objectMapper.writeValueAsString(Map.of(
+                "contents", List.of(
+                        Map.of("parts", List.of(
+                                Map.of("text", prompt)
+                        ))
+                )
+        ));
+
+        // ✅ Send HTTP request to Gemini
+        Request request = new Request.Builder()
+                .url(GEMINI_URL + "?key=" + geminiApiKey)
+                .post(RequestBody.create(requestJson, MediaType.get("application/json")))
+                .addHeader("Content-Type", "application/json")
+                .build();
+
+        // ✅ Read and close the response so the pooled connection is returned
+        String responseBody;
+        try (Response response = outboundHttpClients.okHttpClient("gemini").newCall(request).execute()) {
+            if (!response.isSuccessful()) throw new IOException("Gemini API call failed: " + response);
+            responseBody = response.body().string();
+        }
+
+        // ✅ Parse the full response
+        JsonNode root = objectMapper.readTree(responseBody);
+
+        String text = root
+                .path("candidates").get(0)
+                .path("content")
+                .path("parts").get(0)
+                .path("text").asText();
+
+        System.out.println("🧠 Gemini raw output: " + text); // for debugging
+
+        // Remove Markdown-style code block if it exists
+        if (text.startsWith("```json") || text.startsWith("```")) {
+            text = text.replaceAll("(?s)```json|```", "").trim();
+        }
+        return text;
+    }
 }
@@ -1,5 +1,8 @@
 package CareerVision.service;
 
+import CareerVision.config.OutboundHttpClients;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,9 +10,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.*;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class GeminiService {
@@ -19,14 +27,28 @@ public class GeminiService {
     @Value("${gemini.api.key}")
     private String apiKey;
     
+    private static final String CACHE_FEATURE = "career-advice";
+
     private final RestTemplate restTemplate;
+    private final LlmResponseCache responseCache;
     private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
+    private static final String GEMINI_STREAM_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:streamGenerateContent?alt=sse";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
     
-    public GeminiService() {
-        this.restTemplate = new RestTemplate();
+    public GeminiService(OutboundHttpClients outboundHttpClients, LlmResponseCache responseCache) {
+        this.restTemplate = outboundHttpClients.restTemplate("gemini");
+        this.responseCache = responseCache;
     }
     
+    // Answers are cached per user context, so personalised replies are never shared across users
     public String generateCareerAdvice(String userMessage, String userContext) {
+        String cacheScope = LlmResponseCache.scope(CACHE_FEATURE, userContext);
+        Optional<String> cached = responseCache.lookup(cacheScope, userMessage);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             // Create the career-focused prompt
             String enhancedPrompt = createCareerPrompt(userMessage, userContext);
@@ -49,7 +71,12 @@ public class GeminiService {
             );
             
             // Extract response text
-            return extractResponseText(response.getBody());
+            String answer = extractResponseText(response.getBody());
+            if (answer == null) {
+                return "I apologize, but I'm having trouble processing your request right now. Please try again.";
+            }
+            responseCache.put(cacheScope, userMessage, answer);
+            return answer;
             
         } catch (Exception e) {
             logger.error("Error calling Gemini API: ", e);
@@ -57,6 +84,73 @@ public class GeminiService {
         }
     }
     
+    /**
+     * Streaming variant of {@link #generateCareerAdvice}. Text fragments are
+     * handed to {@code onChunk} as Gemini produces them and the full answer
+     * is returned at the end. If the call fails before anything was
+     * streamed, the fallback response is sent as a single chunk instead.
+     */
+    public String streamCareerAdvice(String userMessage, String userContext, Consumer<String> onChunk) {
+        String cacheScope = LlmResponseCache.scope(CACHE_FEATURE, userContext);
+        Optional<String> cached = responseCache.lookup(cacheScope, userMessage);
+        if (cached.isPresent()) {
+            onChunk.accept(cached.get());
+            return cached.get();
+        }
+
+        StringBuilder answer = new StringBuilder();
+        boolean complete = false;
+        try {
+            Map<String, Object> requestBody = createRequestBody(createCareerPrompt(userMessage, userContext));
+
+            restTemplate.execute(GEMINI_STREAM_URL, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().set("X-goog-api-key", apiKey);
+                        request.getBody().write(objectMapper.writeValueAsBytes(requestBody));
+                    },
+                    response -> {
+                        // Server-sent events: one "data: {GenerateContentResponse}" line per chunk
+                        BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith("data:")) {
+                                continue;
+                            }
+                            String chunk = extractChunkText(objectMapper.readTree(line.substring(5)));
+                            if (!chunk.isEmpty()) {
+                                answer.append(chunk);
+                                onChunk.accept(chunk);
+                            }
+                        }
+                        return null;
+                    });
+            complete = true;
+        } catch (Exception e) {
+            logger.error("Error streaming from Gemini API: ", e);
+        }
+
+        if (answer.length() == 0) {
+            String fallback = generateFallbackResponse(userMessage);
+            onChunk.accept(fallback);
+            return fallback;
+        }
+        // A stream cut off part way is returned to this caller but not cached
+        if (complete) {
+            responseCache.put(cacheScope, userMessage, answer.toString());
+        }
+        return answer.toString();
+    }
+
+    private String extractChunkText(JsonNode chunk) {
+        StringBuilder text = new StringBuilder();
+        for (JsonNode part : chunk.path("candidates").path(0).path("content").path("parts")) {
+            text.append(part.path("text").asText(""));
+        }
+        return text.toString();
+    }
+
     private String createCareerPrompt(String userMessage, String userContext) {
         StringBuilder prompt = new StringBuilder();
         prompt.append("You are CareerVision AI, a professional career advisor and mentor. ");
@@ -107,6 +201,7 @@ public class GeminiService {
         return requestBody;
     }
     
+    // Null when the response has no candidate text
     @SuppressWarnings("unchecked")
     private String extractResponseText(Map<String, Object> responseBody) {
         try {
@@ -124,7 +219,7 @@ public class GeminiService {
         } catch (Exception e) {
             logger.error("Error extracting response text: ", e);
         }
-        return "I apologize, but I'm having trouble processing your request right now. Please try again.";
+        return null;
     }
     
     private String generateFallbackResponse(String userMessage) {
@@ -0,0 +1,145 @@
+package CareerVision.service;
+
+import CareerVision.dto.NearbyApplicant;
+import CareerVision.dto.NearbyJob;
+import CareerVision.model.Company;
+import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.model.User;
+import CareerVision.repository.CompanyRepository;
+import CareerVision.repository.JobApplicationRepository;
+import CareerVision.repository.JobRepository;
+import CareerVision.repository.UserRepository;
+import CareerVision.util.GeoHashIndex;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory spatial index over user and company coordinates. Loaded once at
+ * startup and kept current by {@link #updateUser} / {@link #updateCompany}
+ * whenever a location is saved, so proximity queries only touch the
+ * geohash cells around the search point instead of every row.
+ */
+@Service
+public class GeoIndexService {
+    private static final Logger log = LoggerFactory.getLogger(GeoIndexService.class);
+
+    // Keep IN lists well below driver bind-parameter limits
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private final GeoHashIndex users = new GeoHashIndex();
+    private final GeoHashIndex companies = new GeoHashIndex();
+
+    @PostConstruct
+    public void loadIndex() {
+        load(users, userRepository.findAllCoordinates());
+        load(companies, companyRepository.findAllCoordinates());
+        log.info("Geo index loaded: {} users, {} companies", users.size(), companies.size());
+    }
+
+    public void updateUser(User user) {
+        update(users, user.getId(), user.getLat(), user.getLon());
+    }
+
+    public void updateCompany(Company company) {
+        update(companies, company.getId(), company.getLat(), company.getLon());
+    }
+
+    // Applications to a job whose applicant lives within radiusKm of the hiring company, nearest first
+    public List<NearbyApplicant> applicantsNearJob(Long jobId, double radiusKm) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        Company company = job.getCompany();
+        if (company == null || company.getLat() == null || company.getLon() == null) {
+            throw new IllegalArgumentException("Company location is not set for this job");
+        }
+
+        Map<Long, Double> distanceByUser = distances(users.within(company.getLat(), company.getLon(), radiusKm));
+        List<JobApplication> applications = new ArrayList<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(distanceByUser.keySet()))) {
+            applications.addAll(jobApplicationRepository.findByJobIdAndApplicantIdIn(jobId, chunk));
+        }
+
+        List<NearbyApplicant> result = new ArrayList<>(applications.size());
+        for (JobApplication app : applications) {
+            User applicant = app.getApplicant();
+            result.add(new NearbyApplicant(app.getId(), applicant.getId(), applicant.getName(),
+                    app.getStatus(), app.getMatchPercentage(), distanceByUser.get(applicant.getId())));
+        }
+        result.sort(Comparator.comparingDouble(NearbyApplicant::getDistanceKm));
+        return result;
+    }
+
+    // Jobs at companies within radiusKm of the user, nearest first
+    public List<NearbyJob> jobsNearUser(Long userId, double radiusKm) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (user.getLat() == null || user.getLon() == null) {
+            throw new IllegalArgumentException("User location is not set");
+        }
+
+        Map<Long, Double> distanceByCompany = distances(companies.within(user.getLat(), user.getLon(), radiusKm));
+        List<NearbyJob> result = new ArrayList<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(distanceByCompany.keySet()))) {
+            for (Job job : jobRepository.findByCompanyIdIn(chunk)) {
+                result.add(new NearbyJob(job, distanceByCompany.get(job.getCompany().getId())));
+            }
+        }
+        result.sort(Comparator.comparingDouble(NearbyJob::getDistanceKm));
+        return result;
+    }
+
+    private static void load(GeoHashIndex index, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            index.put((Long) row[0], ((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue());
+        }
+    }
+
+    private static void update(GeoHashIndex index, Long id, Float lat, Float lon) {
+        if (id == null) {
+            return;
+        }
+        if (lat == null || lon == null) {
+            index.remove(id);
+        } else {
+            index.put(id, lat, lon);
+        }
+    }
+
+    private static Map<Long, Double> distances(List<GeoHashIndex.Neighbor> neighbors) {
+        Map<Long, Double> byId = new HashMap<>(neighbors.size() * 2);
+        for (GeoHashIndex.Neighbor neighbor : neighbors) {
+            byId.put(neighbor.id(), neighbor.distanceKm());
+        }
+        return byId;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
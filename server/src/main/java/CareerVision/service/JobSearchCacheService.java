@@ -0,0 +1,157 @@
+package CareerVision.service;
+
+import CareerVision.dto.JobDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache in front of the Adzuna search. Results are kept per normalized
+ * (keyword, location, page) for a fixed TTL in a size-bounded LRU, and
+ * concurrent identical searches share a single upstream call: the first
+ * caller fetches, the others wait on its future.
+ */
+@Service
+public class JobSearchCacheService {
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    private final long ttlMillis;
+    private final Map<SearchKey, CachedSearch> cache;
+    private final Map<SearchKey, CompletableFuture<List<JobDTO>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong upstreamErrors = new AtomicLong();
+    private final AtomicLong upstreamNanos = new AtomicLong();
+    private final AtomicLong maxUpstreamNanos = new AtomicLong();
+
+    private record SearchKey(String keyword, String location, int page) {
+    }
+
+    private record CachedSearch(List<JobDTO> jobs, long expiresAt) {
+    }
+
+    public JobSearchCacheService(@Value("${adzuna.cache.ttl-seconds:600}") long ttlSeconds,
+                                 @Value("${adzuna.cache.max-entries:1000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, CachedSearch> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public List<JobDTO> search(String keyword, String location, int page) {
+        SearchKey key = new SearchKey(normalize(keyword), normalize(location), page);
+
+        List<JobDTO> cached = lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        CompletableFuture<List<JobDTO>> flight = new CompletableFuture<>();
+        CompletableFuture<List<JobDTO>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        try {
+            // Another flight may have filled the cache between our lookup and putIfAbsent
+            cached = lookup(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                flight.complete(cached);
+                return cached;
+            }
+
+            misses.incrementAndGet();
+            List<JobDTO> jobs = fetch(key);
+            cache.put(key, new CachedSearch(jobs, System.currentTimeMillis() + ttlMillis));
+            flight.complete(jobs);
+            return jobs;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hit = hits.get();
+        long miss = misses.get();
+        long shared = coalesced.get();
+        long total = hit + miss + shared;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hit);
+        stats.put("misses", miss);
+        stats.put("coalesced", shared);
+        stats.put("hitRatio", total > 0 ? (double) (hit + shared) / total : 0.0);
+        stats.put("entries", cache.size());
+        stats.put("inFlight", inFlight.size());
+        stats.put("upstreamCalls", miss);
+        stats.put("upstreamErrors", upstreamErrors.get());
+        stats.put("upstreamAvgMs", miss > 0 ? upstreamNanos.get() / 1_000_000.0 / miss : 0.0);
+        stats.put("upstreamMaxMs", maxUpstreamNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private List<JobDTO> lookup(SearchKey key) {
+        CachedSearch cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            cache.remove(key, cached);
+            return null;
+        }
+        return cached.jobs();
+    }
+
+    private List<JobDTO> fetch(SearchKey key) {
+        long start = System.nanoTime();
+        try {
+            return List.copyOf(jobSearchService.searchJobs(key.keyword(), key.location(), key.page()));
+        } catch (RuntimeException e) {
+            upstreamErrors.incrementAndGet();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            upstreamNanos.addAndGet(elapsed);
+            maxUpstreamNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private static List<JobDTO> await(CompletableFuture<List<JobDTO>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+package CareerVision.service;
+
+import CareerVision.dto.JobDTO;
+import CareerVision.dto.JobSearchResult;
+import CareerVision.util.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches several Adzuna result pages at once and merges them. Pages go
+ * through {@link JobSearchCacheService}, so repeated pages are served from
+ * cache and concurrent identical page fetches are shared. Whatever has
+ * arrived by the deadline is returned, de-duplicated by redirect URL; pages
+ * still running keep going in the background and warm the cache. A
+ * caller-supplied deadline is capped at {@code adzuna.fanout.max-deadline-ms}
+ * so no request can hold its thread for long.
+ */
+@Service
+public class JobSearchFanOutService {
+    private static final Logger log = LoggerFactory.getLogger(JobSearchFanOutService.class);
+
+    @Autowired
+    private JobSearchCacheService jobSearchCacheService;
+
+    private final ThreadPoolExecutor executor;
+    private final int maxPages;
+    private final long defaultDeadlineMs;
+    private final long maxDeadlineMs;
+
+    public JobSearchFanOutService(
+            @Value("${adzuna.fanout.threads:8}") int threads,
+            @Value("${adzuna.fanout.queue-capacity:64}") int queueCapacity,
+            @Value("${adzuna.fanout.max-pages:5}") int maxPages,
+            @Value("${adzuna.fanout.deadline-ms:3000}") long defaultDeadlineMs,
+            @Value("${adzuna.fanout.max-deadline-ms:10000}") long maxDeadlineMs) {
+        this.executor = BoundedExecutors.newBoundedPool("adzuna-fanout", threads, queueCapacity);
+        this.maxPages = maxPages;
+        this.maxDeadlineMs = Math.max(1, maxDeadlineMs);
+        this.defaultDeadlineMs = Math.min(defaultDeadlineMs, this.maxDeadlineMs);
+    }
+
+    public JobSearchResult searchPages(String keyword, String location, int pages, Long deadlineMs) {
+        long start = System.currentTimeMillis();
+        int pageCount = Math.max(1, Math.min(pages, maxPages));
+        long deadline = start + effectiveDeadlineMs(deadlineMs);
+
+        List<CompletableFuture<List<JobDTO>>> futures = new ArrayList<>(pageCount);
+        for (int page = 1; page <= pageCount; page++) {
+            int current = page;
+            try {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> jobSearchCacheService.search(keyword, location, current), executor));
+            } catch (RejectedExecutionException e) {
+                // Pool saturated: report the page as missing rather than queueing past the deadline
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Fall through and keep the pages that did complete
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Merge in page order, first occurrence wins
+        Map<String, JobDTO> merged = new LinkedHashMap<>();
+        int pagesReturned = 0;
+        for (CompletableFuture<List<JobDTO>> future : futures) {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                continue;
+            }
+            pagesReturned++;
+            for (JobDTO job : future.join()) {
+                String key = job.getRedirectUrl() != null ? job.getRedirectUrl() : "untracked-" + merged.size();
+                merged.putIfAbsent(key, job);
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        if (pagesReturned < pageCount) {
+            log.warn("Adzuna fan-out for '{}' in '{}': {} of {} pages in {} ms",
+                    keyword, location, pagesReturned, pageCount, elapsed);
+        }
+        return new JobSearchResult(new ArrayList<>(merged.values()), pageCount, pagesReturned,
+                pagesReturned < pageCount, elapsed);
+    }
+
+    long effectiveDeadlineMs(Long requestedMs) {
+        if (requestedMs == null || requestedMs <= 0) {
+            return defaultDeadlineMs;
+        }
+        return Math.min(requestedMs, maxDeadlineMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,53 +1,156 @@
 package CareerVision.service;
 
+import CareerVision.config.OutboundHttpClients;
 import CareerVision.dto.JobDTO;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Adzuna job search. The response body is read with Jackson's token stream
+ * and each result is mapped to a {@link JobDTO} as soon as its object ends,
+ * so neither the raw body nor a JsonNode tree is ever held in memory. A body
+ * that breaks off is an error, never a shorter page, so a truncated result
+ * list is not cached as if it were complete.
+ */
 @Service
 public class JobSearchService {
+    private static final Logger log = LoggerFactory.getLogger(JobSearchService.class);
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String SEARCH_URL = "https://api.adzuna.com/v1/api/jobs/us/search/{page}";
+
+    private final RestTemplate restTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
 
     private final String APP_ID = "162150c1";
     private final String APP_KEY = "8d476db61efb877057df658d7753025b";
 
+    @Value("${adzuna.results-per-page:10}")
+    private int resultsPerPage;
+
+    public JobSearchService(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.restTemplate("adzuna");
+    }
+
     public List<JobDTO> searchJobs(String keyword, String location) {
-        String url = String.format(
-                "https://api.adzuna.com/v1/api/jobs/us/search/1?app_id=%s&app_key=%s&what=%s&where=%s&results_per_page=10",
-                APP_ID, APP_KEY, keyword, location);
-
-        String response = restTemplate.getForObject(url, String.class);
-
-        List<JobDTO> jobs = new ArrayList<>();
-
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-
-            if (results.isArray()) {
-                for (JsonNode result : results) {
-                    JobDTO job = new JobDTO();
-                    job.setTitle(result.get("title").asText());
-                    job.setCompany(result.get("company").get("display_name").asText());
-                    job.setLocation(result.get("location").get("display_name").asText());
-                    job.setCategory(result.get("category").get("label").asText());
-                    job.setDescription(result.get("description").asText());
-                    job.setRedirectUrl(result.get("redirect_url").asText());
-                    jobs.add(job);
+        return searchJobs(keyword, location, 1);
+    }
+
+    public List<JobDTO> searchJobs(String keyword, String location, int page) {
+        return restTemplate.execute(searchUri(keyword, location, page), HttpMethod.GET, null,
+                response -> parseResults(response.getBody()));
+    }
+
+    // Maps each element of the top-level "results" array; any other field is skipped unread.
+    // Throws if the body ends early, which RestTemplate surfaces as a ResourceAccessException.
+    List<JobDTO> parseResults(InputStream body) throws IOException {
+        List<JobDTO> jobs = new ArrayList<>(resultsPerPage);
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return jobs;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonToken element;
+                    while ((element = parser.nextToken()) == JsonToken.START_OBJECT) {
+                        jobs.add(readJob(parser));
+                    }
+                    if (element != JsonToken.END_ARRAY) {
+                        throw truncated(jobs.size());
+                    }
+                } else {
+                    parser.skipChildren();
                 }
             }
+            if (token != JsonToken.END_OBJECT) {
+                throw truncated(jobs.size());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to parse Adzuna response after {} results: {}", jobs.size(), e.getMessage());
+            throw e;
+        }
+        return jobs;
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();  // log properly in real apps
+    private static IOException truncated(int parsed) {
+        return new IOException("Adzuna response ended early after " + parsed + " results");
+    }
+
+    private JobDTO readJob(JsonParser parser) throws IOException {
+        JobDTO job = new JobDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "title" -> job.setTitle(parser.getValueAsString());
+                case "description" -> job.setDescription(parser.getValueAsString());
+                case "redirect_url" -> job.setRedirectUrl(parser.getValueAsString());
+                case "company" -> job.setCompany(readNested(parser, value, "display_name"));
+                case "location" -> job.setLocation(readNested(parser, value, "display_name"));
+                case "category" -> job.setCategory(readNested(parser, value, "label"));
+                default -> parser.skipChildren();
+            }
         }
+        return job;
+    }
 
-        return jobs;
+    // Reads one string field from a nested object such as {"display_name": ...}
+    private String readNested(JsonParser parser, JsonToken value, String name) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                result = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    // Search terms go in as URI variables: encode() then escapes every reserved character
+    // in them ('+', '&', '=', ...), which it does not do for literal query values
+    URI searchUri(String keyword, String location, int page) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("page", page);
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SEARCH_URL)
+                .queryParam("app_id", APP_ID)
+                .queryParam("app_key", APP_KEY);
+        if (keyword != null) {
+            builder.queryParam("what", "{what}");
+            variables.put("what", keyword);
+        }
+        if (location != null) {
+            builder.queryParam("where", "{where}");
+            variables.put("where", location);
+        }
+        return builder
+                .queryParam("results_per_page", resultsPerPage)
+                .encode()
+                .buildAndExpand(variables)
+                .toUri();
     }
 }
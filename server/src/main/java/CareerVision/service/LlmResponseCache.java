@@ -0,0 +1,178 @@
+package CareerVision.service;
+
+import CareerVision.util.PromptFingerprint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Semantic cache of LLM answers. Prompts are reduced to a
+ * {@link PromptFingerprint}; a lookup hits on the same normalized terms, or
+ * on a stored prompt whose SimHash is within {@code llm.cache.max-hamming-distance}
+ * bits and whose terms overlap by at least {@code llm.cache.min-similarity}.
+ * Entries live for a fixed TTL in a size-bounded LRU.
+ * <p>
+ * Every entry belongs to a scope and is only ever returned within that scope.
+ * Callers whose prompt carries per-user context must put that context in the
+ * scope (see {@link #scope}), so personalised answers are never shared
+ * between users.
+ */
+@Service
+public class LlmResponseCache {
+
+    private final long ttlMillis;
+    private final int maxHammingDistance;
+    private final double minSimilarity;
+    // Access-ordered LRU over all scopes, plus the same entries grouped by
+    // scope so the near-duplicate scan only visits its own scope. Both are
+    // guarded by the entries lock.
+    private final LinkedHashMap<String, CachedAnswer> entries;
+    private final Map<String, Map<String, CachedAnswer>> entriesByScope = new HashMap<>();
+
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong similarHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    private record CachedAnswer(String scope, PromptFingerprint fingerprint, String answer, long expiresAt) {
+    }
+
+    public LlmResponseCache(@Value("${llm.cache.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${llm.cache.max-entries:2000}") int maxEntries,
+                            @Value("${llm.cache.max-hamming-distance:6}") int maxHammingDistance,
+                            @Value("${llm.cache.min-similarity:0.8}") double minSimilarity) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxHammingDistance = maxHammingDistance;
+        this.minSimilarity = minSimilarity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAnswer> eldest) {
+                if (size() > maxEntries) {
+                    unindex(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Scope for a prompt: the feature name alone when there is no user
+     * context, otherwise the feature name plus a digest of the context so
+     * only requests with identical context can share an answer.
+     */
+    public static String scope(String feature, String userContext) {
+        if (userContext == null || userContext.isBlank()) {
+            return feature;
+        }
+        return feature + ":" + ResumeTextCacheService.sha256(userContext.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Optional<String> lookup(String scope, String prompt) {
+        PromptFingerprint fingerprint = PromptFingerprint.of(prompt);
+        if (fingerprint.isEmpty()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            String key = key(scope, fingerprint);
+            CachedAnswer exact = entries.get(key);
+            if (exact != null) {
+                if (exact.expiresAt() >= now) {
+                    exactHits.incrementAndGet();
+                    return Optional.of(exact.answer());
+                }
+                remove(exact);
+                expired.incrementAndGet();
+            }
+
+            // Near-duplicate scan of this scope; a 64-bit XOR and popcount per entry
+            Map<String, CachedAnswer> candidates = entriesByScope.getOrDefault(scope, Map.of());
+            CachedAnswer best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            for (Iterator<CachedAnswer> it = candidates.values().iterator(); it.hasNext(); ) {
+                CachedAnswer candidate = it.next();
+                if (candidate.expiresAt() < now) {
+                    it.remove();
+                    entries.remove(key(scope, candidate.fingerprint()));
+                    expired.incrementAndGet();
+                    continue;
+                }
+                int distance = fingerprint.hammingDistance(candidate.fingerprint());
+                if (distance <= maxHammingDistance && distance < bestDistance
+                        && fingerprint.termSimilarity(candidate.fingerprint()) >= minSimilarity) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+            if (candidates.isEmpty()) {
+                entriesByScope.remove(scope);
+            }
+            if (best != null) {
+                entries.get(key(scope, best.fingerprint())); // refresh LRU position
+                similarHits.incrementAndGet();
+                return Optional.of(best.answer());
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String scope, String prompt, String answer) {
+        PromptFingerprint fingerprint = PromptFingerprint.of(prompt);
+        if (fingerprint.isEmpty() || answer == null || answer.isBlank()) {
+            return;
+        }
+        CachedAnswer cached = new CachedAnswer(scope, fingerprint, answer, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key(scope, fingerprint), cached);
+            entriesByScope.computeIfAbsent(scope, k -> new HashMap<>()).put(fingerprint.getKey(), cached);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long exact = exactHits.get();
+        long similar = similarHits.get();
+        long miss = misses.get();
+        long total = exact + similar + miss;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("exactHits", exact);
+        stats.put("similarHits", similar);
+        stats.put("misses", miss);
+        stats.put("expired", expired.get());
+        stats.put("hitRatio", total > 0 ? (double) (exact + similar) / total : 0.0);
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+        }
+        return stats;
+    }
+
+    private void remove(CachedAnswer cached) {
+        entries.remove(key(cached.scope(), cached.fingerprint()));
+        unindex(cached);
+    }
+
+    private void unindex(CachedAnswer cached) {
+        Map<String, CachedAnswer> scoped = entriesByScope.get(cached.scope());
+        if (scoped != null) {
+            scoped.remove(cached.fingerprint().getKey());
+            if (scoped.isEmpty()) {
+                entriesByScope.remove(cached.scope());
+            }
+        }
+    }
+
+    private static String key(String scope, PromptFingerprint fingerprint) {
+        return scope + '\u0000' + fingerprint.getKey();
+    }
+}
@@ -0,0 +1,113 @@
+package CareerVision.service;
+
+import CareerVision.model.CVData;
+import CareerVision.model.Company;
+import CareerVision.model.Job;
+import CareerVision.model.MatchScoreCache;
+import CareerVision.repository.MatchScoreCacheRepository;
+import CareerVision.util.TwoTierCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of matcher results keyed by (job id, job content hash,
+ * resume text hash). Because both hashes are part of the key, editing a job's
+ * description/skills or re-uploading a different resume can never return a
+ * stale score; the evict methods only reclaim the space those old entries use.
+ * A matcher call that yields no score is passed through and never cached, so
+ * one failed call cannot pin a job/resume pair at a default value.
+ */
+@Service
+public class MatchScoreCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchScoreCacheService.class);
+
+    @Autowired
+    private MatchScoreCacheRepository matchScoreCacheRepository;
+
+    private final TwoTierCache<Double> cache;
+
+    public MatchScoreCacheService(@Value("${resume.matcher.cache.max-entries:10000}") int maxEntries) {
+        this.cache = new TwoTierCache<>("match score", maxEntries);
+    }
+
+    // Covers every job field sent to the matcher
+    public static String jobContentHash(Job job) {
+        String content = String.join("\u0000",
+                String.valueOf(job.getTitle()),
+                String.valueOf(job.getDescription()),
+                companyContent(job.getCompany()),
+                String.valueOf(job.getLocation()),
+                String.valueOf(job.getResponsibilities()),
+                String.valueOf(job.getSkills()),
+                String.valueOf(job.getQualifications()));
+        return ResumeTextCacheService.sha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String companyContent(Company company) {
+        if (company == null) {
+            return "null";
+        }
+        return String.join("\u0001",
+                String.valueOf(company.getId()),
+                String.valueOf(company.getName()),
+                String.valueOf(company.getOverview()),
+                String.valueOf(company.getLocation()),
+                String.valueOf(company.getLat()),
+                String.valueOf(company.getLon()),
+                String.valueOf(company.getCommitment()));
+    }
+
+    public static String cvContentHash(String extractedText) {
+        return ResumeTextCacheService.sha256(String.valueOf(extractedText).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public OptionalDouble getOrCompute(Job job, CVData cvData, Supplier<OptionalDouble> matcher) {
+        String jobHash = jobContentHash(job);
+        String cvHash = cvContentHash(cvData.getExtractedText());
+        String key = job.getId() + ":" + jobHash + ":" + cvHash;
+
+        Optional<Double> cached = cache.get(key, ignored -> matchScoreCacheRepository
+                .findByJobIdAndJobHashAndCvHash(job.getId(), jobHash, cvHash)
+                .map(MatchScoreCache::getMatchPercentage));
+        if (cached.isPresent()) {
+            return OptionalDouble.of(cached.get());
+        }
+
+        OptionalDouble result = matcher.get();
+        if (result.isPresent()) {
+            cache.put(key, result.getAsDouble(), score -> matchScoreCacheRepository
+                    .save(new MatchScoreCache(null, job.getId(), jobHash, cvHash, score, null)));
+        }
+        return result;
+    }
+
+    // Called when a job is saved again; keeps only entries for its current content
+    public void evictStaleForJob(Job job) {
+        String jobHash = jobContentHash(job);
+        String prefix = job.getId() + ":";
+        cache.evictFromMemory(key -> key.startsWith(prefix) && !key.startsWith(prefix + jobHash));
+        int removed = matchScoreCacheRepository.deleteStaleForJob(job.getId(), jobHash);
+        logger.debug("Evicted {} stored match scores for job {}", removed, job.getId());
+    }
+
+    // Called when a resume's text is replaced
+    public void evictResume(String previousExtractedText) {
+        String cvHash = cvContentHash(previousExtractedText);
+        cache.evictFromMemory(key -> key.endsWith(":" + cvHash));
+        matchScoreCacheRepository.deleteByCvHash(cvHash);
+    }
+
+    public Map<String, Object> getStats() {
+        return cache.getStats();
+    }
+}
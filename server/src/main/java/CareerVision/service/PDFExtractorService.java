@@ -1,20 +1,172 @@
 package CareerVision.service;
 
+import CareerVision.config.OutboundHttpClients;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
+import java.io.Writer;
 
+/**
+ * Extracts resume text with a bounded heap footprint: PDFBox keeps at most
+ * {@code pdf.extraction.max-main-memory-bytes} of the document in memory and
+ * spills the rest to scratch files, and text is stripped one page at a time
+ * into a buffer capped at {@code pdf.extraction.max-chars}.
+ */
 @Service
 public class PDFExtractorService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PDFExtractorService.class);
+
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
+    @Value("${pdf.extraction.max-main-memory-bytes:4194304}")
+    private long maxMainMemoryBytes;
+
+    @Value("${pdf.extraction.temp-dir:}")
+    private String tempDir;
+
+    @Value("${pdf.extraction.max-pages:50}")
+    private int maxPages;
+
+    @Value("${pdf.extraction.max-chars:100000}")
+    private int maxChars;
+
     public String extractTextFromUrl(String fileUrl) throws Exception {
-        try (InputStream in = new URL(fileUrl).openStream();
-             PDDocument document = PDDocument.load(in)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+        Request request = new Request.Builder().url(fileUrl).get().build();
+        try (Response response = outboundHttpClients.okHttpClient("supabase").newCall(request).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("Failed to download " + fileUrl + ": HTTP " + response.code());
+            }
+            try (InputStream in = response.body().byteStream();
+                 PDDocument document = PDDocument.load(in, memoryUsageSetting())) {
+                return extractText(document);
+            }
+        }
+    }
+
+    // Extract straight from the uploaded bytes so we don't download what we just received
+    public String extractText(byte[] pdfBytes) throws IOException {
+        try (PDDocument document = load(pdfBytes)) {
+            return extractText(document);
+        }
+    }
+
+    PDDocument load(byte[] pdfBytes) throws IOException {
+        return load(pdfBytes, maxMainMemoryBytes);
+    }
+
+    // Same as load(byte[]) with a smaller in-memory budget, for callers that hold several documents at once
+    PDDocument load(byte[] pdfBytes, long mainMemoryBytes) throws IOException {
+        return PDDocument.load(pdfBytes, "", null, null, memoryUsageSetting(mainMemoryBytes));
+    }
+
+    private String extractText(PDDocument document) throws IOException {
+        int pageCount = document.getNumberOfPages();
+        int lastPage = Math.min(pageCount, maxPages);
+        String text = stripPageRange(document, 1, lastPage);
+
+        if (pageCount > lastPage || text.length() >= maxChars) {
+            logger.info("Truncated PDF text extraction: {} pages, {} chars kept (limits {} pages, {} chars)",
+                    pageCount, text.length(), maxPages, maxChars);
+        }
+        return text;
+    }
+
+    // Strips pages startPage..endPage (1-based, inclusive) one at a time, stopping at maxChars
+    String stripPageRange(PDDocument document, int startPage, int endPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        BoundedTextWriter writer = new BoundedTextWriter(maxChars);
+
+        for (int page = startPage; page <= endPage && !writer.isFull(); page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            stripper.writeText(document, writer);
+        }
+        return writer.toString();
+    }
+
+    int getMaxPages() {
+        return maxPages;
+    }
+
+    int getMaxChars() {
+        return maxChars;
+    }
+
+    // Everything that shapes the extracted text; bump the version when the stripping itself changes
+    String extractionSettings() {
+        return "v1:pages=" + maxPages + ":chars=" + maxChars;
+    }
+
+    long getMaxMainMemoryBytes() {
+        return maxMainMemoryBytes;
+    }
+
+    private MemoryUsageSetting memoryUsageSetting() {
+        return memoryUsageSetting(maxMainMemoryBytes);
+    }
+
+    private MemoryUsageSetting memoryUsageSetting(long mainMemoryBytes) {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(mainMemoryBytes);
+        if (tempDir != null && !tempDir.isBlank()) {
+            setting.setTempDir(new File(tempDir));
+        }
+        return setting;
+    }
+
+    // Collects stripped text up to a fixed number of characters and drops the rest
+    private static class BoundedTextWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int maxChars;
+
+        BoundedTextWriter(int maxChars) {
+            this.maxChars = maxChars;
+            this.buffer = new StringBuilder(Math.min(maxChars, 8192));
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            int remaining = maxChars - buffer.length();
+            if (remaining > 0) {
+                buffer.append(cbuf, off, Math.min(len, remaining));
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            int remaining = maxChars - buffer.length();
+            if (remaining > 0) {
+                buffer.append(str, off, off + Math.min(len, remaining));
+            }
+        }
+
+        boolean isFull() {
+            return buffer.length() >= maxChars;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
         }
     }
 }
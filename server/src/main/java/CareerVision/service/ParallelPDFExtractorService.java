@@ -0,0 +1,131 @@
+package CareerVision.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Page-parallel variant of {@link PDFExtractorService}. The page range is
+ * split into fixed-size chunks that are stripped on a dedicated ForkJoinPool,
+ * each leaf working on its own PDDocument (PDFBox documents are not thread
+ * safe), and the chunks are joined back in page order. Page and character
+ * caps are applied exactly as in the serial extractor, so the output is
+ * identical. Documents shorter than {@code pdf.extraction.parallel.min-pages}
+ * are stripped serially on the calling thread. Each leaf loads its copy with
+ * {@code pdf.extraction.max-main-memory-bytes} divided by the pool's
+ * parallelism, so the in-memory bound for one extraction is the same as in
+ * the serial extractor; the remainder spills to scratch files.
+ */
+@Service
+public class ParallelPDFExtractorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelPDFExtractorService.class);
+
+    private final PDFExtractorService pdfExtractorService;
+    private final ForkJoinPool pool;
+    private final int minPages;
+    private final int pagesPerTask;
+    private final long leafMainMemoryBytes;
+
+    public ParallelPDFExtractorService(
+            PDFExtractorService pdfExtractorService,
+            @Value("${pdf.extraction.parallel.parallelism:0}") int parallelism,
+            @Value("${pdf.extraction.parallel.min-pages:8}") int minPages,
+            @Value("${pdf.extraction.parallel.pages-per-task:4}") int pagesPerTask) {
+        this.pdfExtractorService = pdfExtractorService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.minPages = Math.max(1, minPages);
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+        this.leafMainMemoryBytes = Math.max(1, pdfExtractorService.getMaxMainMemoryBytes() / pool.getParallelism());
+    }
+
+    public String extractText(byte[] pdfBytes) throws IOException {
+        int lastPage;
+        try (PDDocument document = pdfExtractorService.load(pdfBytes)) {
+            lastPage = Math.min(document.getNumberOfPages(), pdfExtractorService.getMaxPages());
+            if (lastPage <= 0) {
+                return "";
+            }
+            if (lastPage < minPages) {
+                return pdfExtractorService.stripPageRange(document, 1, lastPage);
+            }
+        }
+
+        int chunkCount = (lastPage + pagesPerTask - 1) / pagesPerTask;
+        String[] chunks = new String[chunkCount];
+        try {
+            pool.submit(new PageRangeTask(pdfBytes, chunks, lastPage, 0, chunkCount)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting PDF text", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+
+        int maxChars = pdfExtractorService.getMaxChars();
+        StringBuilder text = new StringBuilder();
+        for (String chunk : chunks) {
+            if (text.length() >= maxChars) {
+                break;
+            }
+            text.append(chunk, 0, Math.min(chunk.length(), maxChars - text.length()));
+        }
+
+        logger.debug("Extracted {} pages in {} parallel chunks", lastPage, chunkCount);
+        return text.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Splits [fromChunk, toChunk) in half until a single chunk of pages remains
+    private class PageRangeTask extends RecursiveAction {
+        private final byte[] pdfBytes;
+        private final String[] chunks;
+        private final int lastPage;
+        private final int fromChunk;
+        private final int toChunk;
+
+        PageRangeTask(byte[] pdfBytes, String[] chunks, int lastPage, int fromChunk, int toChunk) {
+            this.pdfBytes = pdfBytes;
+            this.chunks = chunks;
+            this.lastPage = lastPage;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int startPage = fromChunk * pagesPerTask + 1;
+                int endPage = Math.min(lastPage, startPage + pagesPerTask - 1);
+                try (PDDocument document = pdfExtractorService.load(pdfBytes, leafMainMemoryBytes)) {
+                    chunks[fromChunk] = pdfExtractorService.stripPageRange(document, startPage, endPage);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+
+            int mid = (fromChunk + toChunk) >>> 1;
+            invokeAll(
+                    new PageRangeTask(pdfBytes, chunks, lastPage, fromChunk, mid),
+                    new PageRangeTask(pdfBytes, chunks, lastPage, mid, toChunk)
+            );
+        }
+    }
+}
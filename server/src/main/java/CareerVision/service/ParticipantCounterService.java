@@ -0,0 +1,216 @@
+package CareerVision.service;
+
+import CareerVision.dto.EventSummary;
+import CareerVision.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Materialized participant counts for events. The events table carries
+ * registered_count and cancelled_count; registrations and cancellations bump
+ * per-event {@link LongAdder} deltas here once their transaction commits, and
+ * a scheduled flush folds those deltas into the columns with a relative
+ * UPDATE, so the request path never touches the count columns. Readers take
+ * the stored column plus the pending delta.
+ * <p>
+ * A reconcile (at startup and every {@code events.counters.reconcile-interval-ms})
+ * recomputes the columns from event_participants to repair any drift. It
+ * flushes first, then takes out whatever was recorded since: those deltas
+ * come from transactions that already committed, so the recount sees them
+ * and flushing them later would count them twice. One window remains: a
+ * registration that commits before the recount UPDATE starts but whose
+ * after-commit hook runs only after the deltas were taken out is counted by
+ * both, until the next reconcile. The window is the time between taking the
+ * deltas and the UPDATE starting, so this is rare.
+ * <p>
+ * All of this only accounts for this instance's deltas: with more than one
+ * instance, set {@code events.counters.reconcile=false}, or another
+ * instance's unflushed deltas would be counted twice.
+ */
+@Service
+public class ParticipantCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantCounterService.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${events.counters.reconcile:true}")
+    private boolean reconcileEnabled;
+
+    // Deltas not yet written to the events table, by event id. Entries are kept
+    // after a flush so an increment can never land on a removed instance.
+    private final Map<Long, Delta> pending = new ConcurrentHashMap<>();
+
+    // Held by flush and reconcile so a reconcile never lands between taking deltas and writing them
+    private final Object flushLock = new Object();
+
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong rowsFlushed = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong reconciles = new AtomicLong();
+
+    private static class Delta {
+        final LongAdder registered = new LongAdder();
+        final LongAdder cancelled = new LongAdder();
+    }
+
+    // Counts a new registration once the surrounding transaction commits
+    public void recordRegistration(Long eventId) {
+        afterCommit(() -> delta(eventId).registered.increment());
+    }
+
+    // Moves one participant from registered to cancelled once the transaction commits
+    public void recordCancellation(Long eventId) {
+        afterCommit(() -> {
+            Delta delta = delta(eventId);
+            delta.registered.decrement();
+            delta.cancelled.increment();
+        });
+    }
+
+    // Registered count for an event given its stored column value
+    public long registeredCount(Long eventId, long storedCount) {
+        Delta delta = pending.get(eventId);
+        return delta == null ? storedCount : storedCount + delta.registered.sum();
+    }
+
+    // Adds pending deltas to counts read from the registered_count column
+    public void applyPending(List<EventSummary> events) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (EventSummary event : events) {
+            event.setParticipantCount(registeredCount(event.getId(), event.getParticipantCount()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.counters.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        int rows = 0;
+        for (Map.Entry<Long, Delta> entry : pending.entrySet()) {
+            Delta delta = entry.getValue();
+            long registered = delta.registered.sumThenReset();
+            long cancelled = delta.cancelled.sumThenReset();
+            if (registered == 0 && cancelled == 0) {
+                continue;
+            }
+            try {
+                eventRepository.addParticipantCounts(entry.getKey(), registered, cancelled);
+                rows++;
+            } catch (Exception e) {
+                // Put the deltas back so the next flush retries them
+                delta.registered.add(registered);
+                delta.cancelled.add(cancelled);
+                flushFailures.incrementAndGet();
+                logger.warn("Failed to flush participant counts for event {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        if (rows > 0) {
+            flushes.incrementAndGet();
+            rowsFlushed.addAndGet(rows);
+            logger.debug("Flushed participant counts for {} events", rows);
+        }
+    }
+
+    // Brings the columns in line with event_participants, e.g. after they were first added
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${events.counters.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${events.counters.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            // Write what is pending so readers keep seeing it while the recount runs
+            flushPending();
+            // Anything recorded since the flush is already committed and will be recounted
+            Map<Long, long[]> taken = takePending();
+            try {
+                int updated = eventRepository.reconcileParticipantCounts();
+                reconciles.incrementAndGet();
+                logger.info("Reconciled participant counts for {} events", updated);
+            } catch (Exception e) {
+                // The columns were not recounted, so these deltas still have to be flushed
+                taken.forEach((eventId, counts) -> {
+                    Delta delta = delta(eventId);
+                    delta.registered.add(counts[0]);
+                    delta.cancelled.add(counts[1]);
+                });
+                logger.error("Failed to reconcile participant counts", e);
+            }
+        }
+    }
+
+    // Resets every delta and returns the non-zero ones as {registered, cancelled}
+    private Map<Long, long[]> takePending() {
+        Map<Long, long[]> taken = new HashMap<>();
+        for (Map.Entry<Long, Delta> entry : pending.entrySet()) {
+            long registered = entry.getValue().registered.sumThenReset();
+            long cancelled = entry.getValue().cancelled.sumThenReset();
+            if (registered != 0 || cancelled != 0) {
+                taken.put(entry.getKey(), new long[]{registered, cancelled});
+            }
+        }
+        return taken;
+    }
+
+    public Map<String, Object> getStats() {
+        long pendingEvents = pending.values().stream()
+                .filter(d -> d.registered.sum() != 0 || d.cancelled.sum() != 0)
+                .count();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("trackedEvents", pending.size());
+        stats.put("pendingEvents", pendingEvents);
+        stats.put("flushes", flushes.get());
+        stats.put("rowsFlushed", rowsFlushed.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("reconciles", reconciles.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Delta delta(Long eventId) {
+        return pending.computeIfAbsent(eventId, id -> new Delta());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package CareerVision.service;
+
+import CareerVision.dto.ResumeIngestionResult;
+import CareerVision.model.CVData;
+import CareerVision.model.User;
+import CareerVision.repository.CVDataRepository;
+import CareerVision.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class ResumeIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIngestionService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CVDataRepository cvDataRepository;
+
+    @Autowired
+    private ResumeTextCacheService resumeTextCacheService;
+
+    @Autowired
+    private MatchScoreCacheService matchScoreCacheService;
+
+    @Autowired
+    private SupabaseStorageService supabaseStorageService;
+
+    /**
+     * Runs the upload pipeline over a single in-memory copy of the resume:
+     * the same bytes feed PDFBox and the Supabase upload, so the PDF is never
+     * downloaded back from storage. Text is looked up by the SHA-256 of the
+     * bytes and the extraction caps, so re-uploading an identical PDF skips
+     * PDFBox entirely.
+     * Extraction runs first so a broken PDF is rejected before anything is
+     * stored. {@code stageListener} is told which stage is about to run so
+     * callers can report progress.
+     */
+    public ResumeIngestionResult ingest(User user, byte[] fileBytes, String contentType,
+                                        String fileName, Consumer<String> stageListener) throws IOException {
+        Map<String, Long> timings = new LinkedHashMap<>();
+
+        stageListener.accept("extracting");
+        long stageStart = System.nanoTime();
+        String pdfHash = ResumeTextCacheService.sha256(fileBytes);
+        String extractedText = resumeTextCacheService.getOrExtract(pdfHash, fileBytes);
+        // Same key as the text cache, so changed caps count as a different document
+        String contentHash = resumeTextCacheService.cacheKey(pdfHash);
+        stageStart = recordStage(timings, "extractMs", stageStart);
+
+        stageListener.accept("uploading");
+        String fileUrl = supabaseStorageService.uploadFile(fileBytes, fileName, contentType);
+        stageStart = recordStage(timings, "uploadMs", stageStart);
+
+        stageListener.accept("saving");
+        user.setResumePath(fileUrl);
+        userRepository.save(user);
+        saveCVData(user, extractedText, contentHash);
+        recordStage(timings, "persistMs", stageStart);
+
+        logger.info("Ingested resume {} for user {} ({} bytes): {}",
+                fileName, user.getId(), fileBytes.length, timings);
+
+        return new ResumeIngestionResult(fileUrl, fileName, extractedText, timings);
+    }
+
+    public void saveCVData(User user, String extractedText) {
+        saveCVData(user, extractedText, null);
+    }
+
+    public void saveCVData(User user, String extractedText, String contentHash) {
+        CVData cvData = cvDataRepository.findByUser(user)
+                .orElse(new CVData());
+
+        // Same document and extraction caps as last time, nothing to rewrite
+        if (contentHash != null && contentHash.equals(cvData.getContentHash())
+                && extractedText != null && extractedText.equals(cvData.getExtractedText())) {
+            return;
+        }
+
+        String previousText = cvData.getExtractedText();
+        cvData.setUser(user);
+        cvData.setExtractedText(extractedText);
+        cvData.setContentHash(contentHash);
+        cvDataRepository.save(cvData);
+
+        if (previousText != null && !previousText.equals(extractedText)) {
+            matchScoreCacheService.evictResume(previousText);
+        }
+    }
+
+    private long recordStage(Map<String, Long> timings, String stage, long stageStart) {
+        long now = System.nanoTime();
+        timings.put(stage, (now - stageStart) / 1_000_000);
+        return now;
+    }
+}
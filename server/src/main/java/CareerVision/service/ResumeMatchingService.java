@@ -1,29 +1,71 @@
 package CareerVision.service;
 
+import CareerVision.dto.BatchMatchResult;
 import CareerVision.model.CVData;
 import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.repository.CVDataRepository;
+import CareerVision.repository.JobApplicationRepository;
+import CareerVision.repository.JobRepository;
+import CareerVision.util.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ResumeMatchingService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ResumeMatchingService.class);
+
     @Value("${resume.matcher.url}")
     private String matcherUrl;
 
+    @Value("${resume.matcher.batch.chunk-size:25}")
+    private int chunkSize;
+
     @Autowired
     private final RestTemplate restTemplate;
 
-    public ResumeMatchingService(RestTemplate restTemplate) {
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private CVDataRepository cvDataRepository;
+
+    @Autowired
+    private MatchScoreCacheService matchScoreCacheService;
+
+    // Caps how many matcher calls a batch has in flight at once
+    private final ExecutorService batchExecutor;
+
+    public ResumeMatchingService(RestTemplate restTemplate,
+                                 @Value("${resume.matcher.batch.concurrency:4}") int batchConcurrency) {
         this.restTemplate = restTemplate;
+        this.batchExecutor = Executors.newFixedThreadPool(batchConcurrency, BoundedExecutors.daemonThreads("match-batch"));
     }
 
-    public double calculateMatchPercentage(Job job, CVData cvData) {
+    // Empty when the matcher returns no usable score; callers must not treat that as 0%
+    public OptionalDouble calculateMatchPercentage(Job job, CVData cvData) {
         // Prepare request data
         Map<String, Object> request = new HashMap<>();
 
@@ -52,10 +94,92 @@ public class ResumeMatchingService {
                 Map.class
         );
 
-        if (response != null && response.containsKey("match_percentage")) {
-            return (Double) response.get("match_percentage");
+        if (response != null && response.get("match_percentage") instanceof Number) {
+            return OptionalDouble.of(((Number) response.get("match_percentage")).doubleValue());
         }
 
-        return 0.0; // Default if matching fails
+        logger.warn("Matcher returned no match_percentage for job {}", job.getId());
+        return OptionalDouble.empty();
+    }
+
+    // Same as calculateMatchPercentage, but unchanged job/resume pairs are served from the cache
+    public OptionalDouble getMatchPercentage(Job job, CVData cvData) {
+        return matchScoreCacheService.getOrCompute(job, cvData, () -> calculateMatchPercentage(job, cvData));
+    }
+
+    /**
+     * Scores every application of a job in one pass. Resumes are loaded in a
+     * single query, applications are split into chunks of
+     * {@code resume.matcher.batch.chunk-size} that run on a bounded pool, and
+     * the new percentages are written back in one transaction as a single
+     * JDBC batch that only touches match_percentage, so concurrent edits to
+     * other columns (e.g. status) are not overwritten.
+     */
+    public BatchMatchResult scoreApplicationsForJob(Long jobId) {
+        long start = System.currentTimeMillis();
+
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        List<JobApplication> applications = jobApplicationRepository.findByJobIdWithApplicant(jobId);
+
+        List<Long> applicantIds = applications.stream()
+                .map(app -> app.getApplicant().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, CVData> cvByUserId = cvDataRepository.findByUserIdIn(applicantIds).stream()
+                .collect(Collectors.toMap(cv -> cv.getUser().getId(), Function.identity(), (a, b) -> a));
+
+        List<JobApplication> scorable = new ArrayList<>();
+        for (JobApplication app : applications) {
+            CVData cvData = cvByUserId.get(app.getApplicant().getId());
+            if (cvData != null && cvData.getExtractedText() != null) {
+                scorable.add(app);
+            }
+        }
+
+        Map<Long, Double> scores = new ConcurrentHashMap<>();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < scorable.size(); from += chunkSize) {
+            List<JobApplication> chunk = scorable.subList(from, Math.min(from + chunkSize, scorable.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (JobApplication app : chunk) {
+                    try {
+                        CVData cvData = cvByUserId.get(app.getApplicant().getId());
+                        OptionalDouble score = getMatchPercentage(job, cvData);
+                        if (score.isPresent()) {
+                            scores.put(app.getId(), score.getAsDouble());
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        logger.warn("Failed to score application {} for job {}: {}",
+                                app.getId(), jobId, e.getMessage());
+                    }
+                }
+            }, batchExecutor));
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+
+        int updated = jobApplicationRepository.updateMatchPercentages(scores);
+
+        long elapsed = System.currentTimeMillis() - start;
+        logger.info("Scored {} of {} applications for job {} in {} ms ({} failed, {} rows changed)",
+                scores.size(), applications.size(), jobId, elapsed, failed.get(), updated);
+
+        return new BatchMatchResult(
+                jobId,
+                scores.size(),
+                applications.size() - scorable.size(),
+                failed.get(),
+                elapsed,
+                new HashMap<>(scores)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package CareerVision.service;
+
+import CareerVision.dto.ResumeIngestionResult;
+import CareerVision.dto.ResumeJobStatus;
+import CareerVision.model.User;
+import CareerVision.repository.UserRepository;
+import CareerVision.util.BoundedExecutors;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded in-process queue for resume uploads. The request thread only reads
+ * the multipart body and enqueues it; extraction, storage upload and the
+ * CVData save happen on a fixed worker pool. When the queue is full,
+ * {@link #submit} throws {@link RejectedExecutionException} so the caller can
+ * answer 429 instead of piling up servlet threads.
+ */
+@Service
+public class ResumeProcessingQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeProcessingQueue.class);
+
+    @Autowired
+    private ResumeIngestionService resumeIngestionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ResumeJobStatus> jobs = new ConcurrentHashMap<>();
+    private final long jobRetentionMinutes;
+
+    public ResumeProcessingQueue(
+            @Value("${resume.processing.workers:4}") int workers,
+            @Value("${resume.processing.queue-capacity:50}") int queueCapacity,
+            @Value("${resume.processing.job-retention-minutes:30}") long jobRetentionMinutes) {
+        this.executor = BoundedExecutors.newBoundedPool("resume-worker", workers, queueCapacity);
+        this.jobRetentionMinutes = jobRetentionMinutes;
+    }
+
+    public ResumeJobStatus submit(User user, byte[] fileBytes, String contentType) {
+        purgeFinishedJobs();
+
+        String jobId = UUID.randomUUID().toString();
+        String fileName = "resume_" + user.getId() + "_" + System.currentTimeMillis() + ".pdf";
+        ResumeJobStatus job = new ResumeJobStatus(jobId, user.getId(), fileName);
+        jobs.put(jobId, job);
+
+        try {
+            executor.execute(() -> process(job, fileBytes, contentType));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            logger.warn("Resume queue full ({} waiting), rejecting upload for user {}",
+                    executor.getQueue().size(), user.getId());
+            throw e;
+        }
+
+        logger.info("Queued resume job {} for user {}", jobId, user.getId());
+        return job;
+    }
+
+    public Optional<ResumeJobStatus> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private void process(ResumeJobStatus job, byte[] fileBytes, String contentType) {
+        job.setStatus(ResumeJobStatus.Status.PROCESSING);
+        try {
+            User user = userRepository.findById(job.getUserId())
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+            ResumeIngestionResult result = resumeIngestionService.ingest(
+                    user, fileBytes, contentType, job.getFileName(), job::setStage);
+
+            job.setFileUrl(result.getFileUrl());
+            job.setTimings(result.getTimings());
+            job.setStatus(ResumeJobStatus.Status.COMPLETED);
+        } catch (Exception e) {
+            logger.error("Resume job {} failed", job.getJobId(), e);
+            job.setError(e.getMessage());
+            job.setStatus(ResumeJobStatus.Status.FAILED);
+        } finally {
+            job.setStage(null);
+            job.setFinishedAt(LocalDateTime.now());
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
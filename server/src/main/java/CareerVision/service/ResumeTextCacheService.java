@@ -0,0 +1,74 @@
+package CareerVision.service;
+
+import CareerVision.model.ResumeTextCache;
+import CareerVision.repository.ResumeTextCacheRepository;
+import CareerVision.util.TwoTierCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of extracted resume text. Lookups go through a
+ * bounded in-memory LRU first, then the resume_text_cache table, and only
+ * fall back to PDFBox when neither has seen the bytes before. Entries are
+ * keyed by the PDF hash together with the extraction caps, so text cut under
+ * old page/character limits is not served after the limits change.
+ */
+@Service
+public class ResumeTextCacheService {
+
+    @Autowired
+    private ResumeTextCacheRepository resumeTextCacheRepository;
+
+    @Autowired
+    private ParallelPDFExtractorService parallelPDFExtractorService;
+
+    @Autowired
+    private PDFExtractorService pdfExtractorService;
+
+    private final TwoTierCache<String> cache;
+
+    public ResumeTextCacheService(@Value("${resume.text-cache.max-entries:500}") int maxEntries) {
+        this.cache = new TwoTierCache<>("resume text", maxEntries);
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public String getOrExtract(String pdfHash, byte[] pdfBytes) throws IOException {
+        String contentHash = cacheKey(pdfHash);
+        Optional<String> cached = cache.get(contentHash,
+                key -> resumeTextCacheRepository.findById(key).map(ResumeTextCache::getExtractedText));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String extractedText = parallelPDFExtractorService.extractText(pdfBytes);
+        cache.put(contentHash, extractedText,
+                text -> resumeTextCacheRepository.save(new ResumeTextCache(contentHash, text, null)));
+        return extractedText;
+    }
+
+    // Still 64 hex chars, so it fits the content_hash column
+    String cacheKey(String pdfHash) {
+        return sha256((pdfHash + ":" + pdfExtractorService.extractionSettings()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Map<String, Object> getStats() {
+        return cache.getStats();
+    }
+}
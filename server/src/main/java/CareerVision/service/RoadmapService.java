@@ -1,5 +1,6 @@
 package CareerVision.service;
 
+import CareerVision.config.OutboundHttpClients;
 import CareerVision.dto.RoadmapRequest;
 import CareerVision.model.Roadmap;
 import CareerVision.model.User;
@@ -10,11 +11,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.ArrayList;
@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -65,10 +67,26 @@ public class RoadmapService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
+    @Autowired
+    private RoadmapTemplateCacheService roadmapTemplateCacheService;
+
     @Value("${groq.api.key}")
     private String groqApiKey;
 
-    @Transactional
+    // Receives a streamed roadmap one markdown section at a time
+    public interface SectionListener {
+        void onSection(String markdown);
+
+        // Sections sent so far are being replaced (the fallback roadmap follows)
+        default void onReset() {
+        }
+    }
+
+    // Not @Transactional: the LLM call must not hold a pooled DB connection.
+    // The user lookup and the final save each run in their own short transaction.
     public Roadmap generateRoadmap(RoadmapRequest request) throws Exception {
         // Validate input
         validateInput(request);
@@ -91,6 +109,19 @@ public class RoadmapService {
         return roadmapRepository.save(roadmap);
     }
 
+    // Same as generateRoadmap, but sections are handed to the listener as Groq streams them
+    public Roadmap streamRoadmap(RoadmapRequest request, SectionListener listener) {
+        validateInput(request);
+
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String prompt = preparePrompt(request);
+        String roadmapContent = streamRoadmapContent(prompt, request, listener);
+
+        return roadmapRepository.save(createRoadmapEntity(user, request, roadmapContent));
+    }
+
     private void validateInput(RoadmapRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Request cannot be null");
@@ -607,29 +638,125 @@ public class RoadmapService {
     }
 
     private String generateRoadmapContent(String prompt, RoadmapRequest request) {
+        Optional<String> cached = roadmapTemplateCacheService.lookup(request);
+        if (cached.isPresent()) {
+            logger.info("Serving cached roadmap for user: {}", request.getUserId());
+            return cached.get();
+        }
+
         try {
             String content = callGroqAPI(prompt);
-            
-            // Validate content
-            if (content == null || content.trim().isEmpty() || 
-                content.toLowerCase().contains("placeholder")) {
-                logger.warn("Generated content is empty or contains placeholder. Using dynamic fallback.");
-                return generateDynamicFallbackRoadmap(request);
-            }
-            
-            // Additional validation to ensure meaningful content
-            if (content.length() < 500) {  // Minimum length to ensure substantive roadmap
-                logger.warn("Generated content is too short. Using dynamic fallback.");
-                return generateDynamicFallbackRoadmap(request);
+            if (isUsableContent(content)) {
+                roadmapTemplateCacheService.store(request, content);
+                return content;
             }
-            
-            return content;
+            return generateDynamicFallbackRoadmap(request);
         } catch (Exception e) {
             logger.error("Failed to generate roadmap via Groq API. Using dynamic fallback.", e);
             return generateDynamicFallbackRoadmap(request);
         }
     }
 
+    private String streamRoadmapContent(String prompt, RoadmapRequest request, SectionListener listener) {
+        Optional<String> cached = roadmapTemplateCacheService.lookup(request);
+        if (cached.isPresent()) {
+            logger.info("Streaming cached roadmap for user: {}", request.getUserId());
+            SectionSplitter cachedSplitter = new SectionSplitter(listener);
+            cachedSplitter.accept(cached.get());
+            cachedSplitter.finish();
+            return cached.get();
+        }
+
+        StringBuilder content = new StringBuilder();
+        SectionSplitter splitter = new SectionSplitter(listener);
+        try {
+            callGroqAPIStreaming(prompt, delta -> {
+                content.append(delta);
+                splitter.accept(delta);
+            });
+            splitter.finish();
+            if (isUsableContent(content.toString())) {
+                roadmapTemplateCacheService.store(request, content.toString());
+                return content.toString();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to stream roadmap via Groq API. Using dynamic fallback.", e);
+        }
+
+        if (splitter.hasEmitted()) {
+            listener.onReset();
+        }
+        String fallback = generateDynamicFallbackRoadmap(request);
+        SectionSplitter fallbackSplitter = new SectionSplitter(listener);
+        fallbackSplitter.accept(fallback);
+        fallbackSplitter.finish();
+        return fallback;
+    }
+
+    private boolean isUsableContent(String content) {
+        // Validate content
+        if (content == null || content.trim().isEmpty() ||
+            content.toLowerCase().contains("placeholder")) {
+            logger.warn("Generated content is empty or contains placeholder. Using dynamic fallback.");
+            return false;
+        }
+
+        // Additional validation to ensure meaningful content
+        if (content.length() < 500) {  // Minimum length to ensure substantive roadmap
+            logger.warn("Generated content is too short. Using dynamic fallback.");
+            return false;
+        }
+        return true;
+    }
+
+    // Cuts streamed markdown into sections at heading lines, passing each one on once it is complete
+    private static final class SectionSplitter {
+        private final SectionListener listener;
+        private final StringBuilder section = new StringBuilder();
+        private final StringBuilder line = new StringBuilder();
+        private boolean emitted;
+
+        private SectionSplitter(SectionListener listener) {
+            this.listener = listener;
+        }
+
+        void accept(String delta) {
+            for (int i = 0; i < delta.length(); i++) {
+                char c = delta.charAt(i);
+                line.append(c);
+                if (c == '\n') {
+                    endLine();
+                }
+            }
+        }
+
+        void finish() {
+            section.append(line);
+            line.setLength(0);
+            flush();
+        }
+
+        boolean hasEmitted() {
+            return emitted;
+        }
+
+        private void endLine() {
+            if (line.charAt(0) == '#') {
+                flush();
+            }
+            section.append(line);
+            line.setLength(0);
+        }
+
+        private void flush() {
+            if (!section.toString().isBlank()) {
+                listener.onSection(section.toString());
+                emitted = true;
+            }
+            section.setLength(0);
+        }
+    }
+
     private Roadmap createRoadmapEntity(User user, RoadmapRequest request, String roadmapContent) {
         Roadmap roadmap = new Roadmap();
         roadmap.setUser(user);
@@ -688,8 +815,6 @@ public class RoadmapService {
 
     private String callGroqAPI(String prompt) throws Exception {
         try {
-            // Prepare HTTP client
-            HttpClient client = HttpClient.newHttpClient();
             ObjectMapper objectMapper = new ObjectMapper();
 
             // Escape the prompt to prevent JSON parsing errors
@@ -708,15 +833,14 @@ public class RoadmapService {
             logger.debug("Request Body: {}", requestBody);
 
             // Create HTTP request
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create("https://api.groq.com/openai/v1/chat/completions"))
                 .header("Content-Type", "application/json")
                 .header("Authorization", "Bearer " + groqApiKey)
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody));
 
-            // Send request and get response
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            // Send request over the shared, pooled client and get response
+            HttpResponse<String> response = outboundHttpClients.send("groq", request, HttpResponse.BodyHandlers.ofString());
 
             // Log full response for debugging
             logger.info("Groq API Response Status: {}", response.statusCode());
@@ -754,6 +878,53 @@ public class RoadmapService {
         }
     }
 
+    // Streaming chat completion; each content delta is passed to onDelta as it arrives
+    private void callGroqAPIStreaming(String prompt, Consumer<String> onDelta) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String requestBody = String.format(
+            "{\"messages\": [{\"role\": \"user\", \"content\": \"%s\"}], " +
+            "\"model\": \"llama-3.3-70b-versatile\", " +
+            "\"temperature\": 0.7, " +
+            "\"max_tokens\": 2000, " +
+            "\"stream\": true}",
+            escapeJsonString(prompt)
+        );
+
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+            .uri(URI.create("https://api.groq.com/openai/v1/chat/completions"))
+            .header("Content-Type", "application/json")
+            .header("Accept", "text/event-stream")
+            .header("Authorization", "Bearer " + groqApiKey)
+            .POST(HttpRequest.BodyPublishers.ofString(requestBody));
+
+        // Server-sent events: "data: {chunk}" lines, terminated by "data: [DONE]"
+        StringBuilder errorBody = new StringBuilder();
+        int status = outboundHttpClients.sendStreaming("groq", request, line -> {
+            if (!line.startsWith("data:")) {
+                errorBody.append(line);
+                return;
+            }
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || data.equals("[DONE]")) {
+                return;
+            }
+            try {
+                String delta = objectMapper.readTree(data)
+                    .path("choices").path(0).path("delta").path("content").asText("");
+                if (!delta.isEmpty()) {
+                    onDelta.accept(delta);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (status != 200) {
+            logger.error("Groq API Error Response: {}", errorBody);
+            throw new RuntimeException("Groq API Error: " + errorBody);
+        }
+    }
+
     private Map<String, List<String>> loadSkillVariants() {
         Map<String, List<String>> skillVariants = new HashMap<>();
 
@@ -0,0 +1,76 @@
+package CareerVision.service;
+
+import CareerVision.dto.RoadmapRequest;
+import CareerVision.dto.RoadmapResponse;
+import CareerVision.model.Roadmap;
+import CareerVision.util.BoundedExecutors;
+import CareerVision.util.SseStream;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Streams roadmap generation over SSE: a "section" event per completed
+ * markdown section, "reset" if the fallback roadmap replaces what was sent,
+ * then "done" with the saved roadmap (or "error"). Generation runs on its
+ * own worker pool and holds no database connection while Groq is writing.
+ */
+@Service
+public class RoadmapStreamingService {
+    private static final Logger logger = LoggerFactory.getLogger(RoadmapStreamingService.class);
+
+    @Autowired
+    private RoadmapService roadmapService;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public RoadmapStreamingService(
+            @Value("${roadmap.stream.workers:10}") int workers,
+            @Value("${roadmap.stream.queue-capacity:20}") int queueCapacity,
+            @Value("${roadmap.stream.timeout-ms:180000}") long timeoutMs) {
+        this.executor = BoundedExecutors.newBoundedPool("roadmap-stream", workers, queueCapacity);
+        this.timeoutMs = timeoutMs;
+    }
+
+    // Throws RejectedExecutionException when all stream workers are busy
+    public SseEmitter stream(RoadmapRequest request) {
+        SseStream stream = new SseStream(timeoutMs);
+
+        executor.execute(() -> {
+            try {
+                Roadmap roadmap = roadmapService.streamRoadmap(request, new RoadmapService.SectionListener() {
+                    @Override
+                    public void onSection(String markdown) {
+                        stream.send("section", Map.of("markdown", markdown));
+                    }
+
+                    @Override
+                    public void onReset() {
+                        stream.send("reset", Map.of());
+                    }
+                });
+                logger.info("Streamed roadmap {} for user: {}", roadmap.getId(), request.getUserId());
+                stream.send("done", new RoadmapResponse(true, roadmap));
+            } catch (Exception e) {
+                logger.error("Error streaming roadmap", e);
+                stream.send("error", new RoadmapResponse(false, "Failed to generate roadmap",
+                        e.getMessage() != null ? e.getMessage() : "Unknown error occurred"));
+            }
+            stream.complete();
+        });
+        return stream.getEmitter();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
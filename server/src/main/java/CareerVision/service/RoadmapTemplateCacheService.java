@@ -0,0 +1,115 @@
+package CareerVision.service;
+
+import CareerVision.dto.RoadmapRequest;
+import CareerVision.model.RoadmapTemplateCache;
+import CareerVision.repository.RoadmapTemplateCacheRepository;
+import CareerVision.util.TwoTierCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of generated roadmaps keyed by the request profile, i.e. the fields
+ * that feed the Groq prompt (goal, area, experience, languages, learning
+ * style, difficulty, pace, hours and tools) with whitespace and case
+ * normalized and languages in priority order. The user id and fields the
+ * prompt ignores are not part of the key. Lookups go through a bounded
+ * in-memory LRU, then the roadmap_template_cache table, so popular profiles
+ * survive restarts. Entries older than {@code roadmap.cache.ttl-hours} are
+ * treated as misses and regenerated.
+ */
+@Service
+public class RoadmapTemplateCacheService {
+
+    @Autowired
+    private RoadmapTemplateCacheRepository roadmapTemplateCacheRepository;
+
+    private final long ttlHours;
+    private final TwoTierCache<RoadmapTemplateCache> cache;
+
+    private final AtomicLong bypassed = new AtomicLong();
+
+    public RoadmapTemplateCacheService(@Value("${roadmap.cache.ttl-hours:168}") long ttlHours,
+                                       @Value("${roadmap.cache.max-entries:200}") int maxEntries) {
+        this.ttlHours = ttlHours;
+        this.cache = new TwoTierCache<>("roadmap", maxEntries, this::isFresh);
+    }
+
+    // Requests opt out with allowCached=false; absent means cached answers are fine
+    public static boolean allowsCached(RoadmapRequest request) {
+        return !Boolean.FALSE.equals(request.getAllowCached());
+    }
+
+    public Optional<String> lookup(RoadmapRequest request) {
+        if (!allowsCached(request)) {
+            bypassed.incrementAndGet();
+            return Optional.empty();
+        }
+        return cache.get(profileHash(request), roadmapTemplateCacheRepository::findById)
+                .map(RoadmapTemplateCache::getGeneratedRoadmap);
+    }
+
+    // Only call with content Groq actually generated; fallback roadmaps are not worth keeping
+    public void store(RoadmapRequest request, String roadmapContent) {
+        String profile = canonicalProfile(request);
+        String hash = hash(profile);
+        RoadmapTemplateCache entry = new RoadmapTemplateCache(hash, profile, roadmapContent, LocalDateTime.now());
+        cache.put(hash, entry, roadmapTemplateCacheRepository::save);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = cache.getStats();
+        stats.put("bypassed", bypassed.get());
+        return stats;
+    }
+
+    static String profileHash(RoadmapRequest request) {
+        return hash(canonicalProfile(request));
+    }
+
+    static String canonicalProfile(RoadmapRequest request) {
+        String languages = request.getLanguages() == null ? "" : request.getLanguages().stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(RoadmapRequest.Language::getPriority,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(language -> normalize(language.getName())))
+                .map(language -> normalize(language.getName()))
+                .collect(Collectors.joining(","));
+
+        return String.join("\n", List.of(
+                "goal=" + normalize(request.getPrimaryGoal()),
+                "area=" + normalize(request.getSpecificArea()),
+                "experience=" + normalize(request.getExperienceDescription()),
+                "languages=" + languages,
+                "style=" + normalize(request.getLearningStyle()),
+                "difficulty=" + normalize(request.getDifficulty()),
+                "hours=" + normalize(request.getHoursPerWeek()),
+                "pace=" + normalize(request.getPace()),
+                "tools=" + normalize(request.getTools())
+        ));
+    }
+
+    private boolean isFresh(RoadmapTemplateCache entry) {
+        return entry.getCreatedAt() != null
+                && entry.getCreatedAt().isAfter(LocalDateTime.now().minusHours(ttlHours));
+    }
+
+    private static String hash(String profile) {
+        return ResumeTextCacheService.sha256(profile.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
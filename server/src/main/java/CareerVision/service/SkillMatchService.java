@@ -0,0 +1,165 @@
+package CareerVision.service;
+
+import CareerVision.dto.SkillMatchResult;
+import CareerVision.model.CVData;
+import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.repository.CVDataRepository;
+import CareerVision.repository.JobApplicationRepository;
+import CareerVision.repository.JobRepository;
+import CareerVision.util.SkillAutomaton;
+import CareerVision.util.SkillVariants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-JVM skill overlap scoring. For each job the skills, their known variants
+ * from {@link SkillVariants} and simple plural/singular forms are compiled
+ * into one {@link SkillAutomaton}, so every resume is checked against all of
+ * them in a single scan. This is the skill part of the Python matcher only;
+ * the full semantic score still comes from {@link ResumeMatchingService}.
+ */
+@Service
+public class SkillMatchService {
+
+    private static final int MAX_COMPILED_JOBS = 256;
+
+    // Variant spelling -> canonical skills it belongs to
+    private static final Map<String, Set<String>> CANONICAL_BY_VARIANT = buildCanonicalIndex();
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private CVDataRepository cvDataRepository;
+
+    private final Map<List<String>, CompiledSkills> compiledSkills =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, CompiledSkills> eldest) {
+                    return size() > MAX_COMPILED_JOBS;
+                }
+            });
+
+    public List<SkillMatchResult> scoreApplicationsForJob(Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found"));
+        List<JobApplication> applications = jobApplicationRepository.findByJobIdWithApplicant(jobId);
+
+        List<Long> applicantIds = applications.stream()
+                .map(app -> app.getApplicant().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, CVData> cvByUserId = cvDataRepository.findByUserIdIn(applicantIds).stream()
+                .collect(Collectors.toMap(cv -> cv.getUser().getId(), Function.identity(), (a, b) -> a));
+
+        CompiledSkills compiled = compile(job.getSkills());
+        List<SkillMatchResult> results = new ArrayList<>(applications.size());
+        for (JobApplication app : applications) {
+            CVData cvData = cvByUserId.get(app.getApplicant().getId());
+            SkillMatchResult result = match(compiled, cvData != null ? cvData.getExtractedText() : null);
+            result.setApplicationId(app.getId());
+            result.setUserId(app.getApplicant().getId());
+            result.setUserName(app.getApplicant().getName());
+            results.add(result);
+        }
+
+        results.sort((a, b) -> Double.compare(b.getSkillMatchPercentage(), a.getSkillMatchPercentage()));
+        return results;
+    }
+
+    public SkillMatchResult match(List<String> jobSkills, String resumeText) {
+        return match(compile(jobSkills), resumeText);
+    }
+
+    private SkillMatchResult match(CompiledSkills compiled, String resumeText) {
+        List<String> skills = compiled.skills;
+        BitSet found = compiled.automaton != null && resumeText != null
+                ? compiled.automaton.scan(resumeText)
+                : new BitSet();
+
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < skills.size(); i++) {
+            (found.get(i) ? matched : missing).add(skills.get(i));
+        }
+
+        double percentage = skills.isEmpty()
+                ? 0.0
+                : Math.round(matched.size() * 10000.0 / skills.size()) / 100.0;
+        return new SkillMatchResult(null, null, null, percentage, matched, missing);
+    }
+
+    private CompiledSkills compile(List<String> jobSkills) {
+        List<String> skills = jobSkills == null ? List.of() : jobSkills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(skill -> skill.trim().toLowerCase())
+                .distinct()
+                .collect(Collectors.toList());
+
+        return compiledSkills.computeIfAbsent(skills, key -> {
+            List<String> patterns = new ArrayList<>();
+            List<Integer> labels = new ArrayList<>();
+            for (int i = 0; i < key.size(); i++) {
+                for (String variant : variantsOf(key.get(i))) {
+                    patterns.add(variant);
+                    labels.add(i);
+                }
+            }
+            SkillAutomaton automaton = patterns.isEmpty()
+                    ? null
+                    : SkillAutomaton.compile(patterns, labels.stream().mapToInt(Integer::intValue).toArray());
+            return new CompiledSkills(key, automaton);
+        });
+    }
+
+    // The skill itself and its dictionary variants (in either direction). Plural/singular forms
+    // come from the dictionary too: stripping or appending an "s" turns sass into sas and
+    // kubernetes into kubernete
+    private static Set<String> variantsOf(String skill) {
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(skill);
+        variants.addAll(SkillVariants.FIELD_SKILL_VARIANTS.getOrDefault(skill, List.of()));
+        for (String canonical : CANONICAL_BY_VARIANT.getOrDefault(skill, Set.of())) {
+            variants.add(canonical);
+            variants.addAll(SkillVariants.FIELD_SKILL_VARIANTS.get(canonical));
+        }
+
+        return variants;
+    }
+
+    private static Map<String, Set<String>> buildCanonicalIndex() {
+        Map<String, Set<String>> index = new HashMap<>();
+        SkillVariants.FIELD_SKILL_VARIANTS.forEach((canonical, variants) -> {
+            for (String variant : variants) {
+                index.computeIfAbsent(variant, key -> new LinkedHashSet<>()).add(canonical);
+            }
+        });
+        return index;
+    }
+
+    private static class CompiledSkills {
+        private final List<String> skills;
+        private final SkillAutomaton automaton;
+
+        CompiledSkills(List<String> skills, SkillAutomaton automaton) {
+            this.skills = skills;
+            this.automaton = automaton;
+        }
+    }
+}
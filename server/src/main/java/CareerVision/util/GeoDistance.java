@@ -0,0 +1,55 @@
+package CareerVision.util;
+
+/**
+ * Great-circle distances on a spherical earth (same radius as turf.js, so
+ * server and client agree). The array kernels are plain loops over
+ * primitive arrays with no allocation or boxing; points with a NaN
+ * coordinate come out as NaN.
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double DEG_TO_RAD = Math.PI / 180;
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Distances from one origin to the first n points, written into out
+    public static void haversineKm(double originLat, double originLon,
+                                   double[] lats, double[] lons, double[] out, int n) {
+        double originLatRad = originLat * DEG_TO_RAD;
+        double originLonRad = originLon * DEG_TO_RAD;
+        double cosOrigin = Math.cos(originLatRad);
+        for (int i = 0; i < n; i++) {
+            double latRad = lats[i] * DEG_TO_RAD;
+            double sinLat = Math.sin((latRad - originLatRad) * 0.5);
+            double sinLon = Math.sin((lons[i] * DEG_TO_RAD - originLonRad) * 0.5);
+            double a = sinLat * sinLat + cosOrigin * Math.cos(latRad) * sinLon * sinLon;
+            out[i] = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+        }
+    }
+
+    // Pairwise distances (lats1[i], lons1[i]) -> (lats2[i], lons2[i]) for the first n pairs
+    public static void haversineKm(double[] lats1, double[] lons1,
+                                   double[] lats2, double[] lons2, double[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            double lat1 = lats1[i] * DEG_TO_RAD;
+            double lat2 = lats2[i] * DEG_TO_RAD;
+            double sinLat = Math.sin((lat2 - lat1) * 0.5);
+            double sinLon = Math.sin((lons2[i] - lons1[i]) * DEG_TO_RAD * 0.5);
+            double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+            out[i] = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package CareerVision.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Point index keyed by 52-bit geohash (26 bits per axis, roughly 0.6 m
+ * cells). Points live in a sorted map, so every coarser geohash cell is a
+ * contiguous key range. A radius query picks the level whose cells are at
+ * least as large as the search box, reads the few cells (at most 3x3)
+ * covering it with O(log n) range lookups, and keeps the points whose
+ * haversine distance is within the radius.
+ *
+ * <p>Reads are lock-free; updates are serialized.
+ */
+public class GeoHashIndex {
+
+    private static final int BITS_PER_AXIS = 26;
+    private static final double KM_PER_DEGREE = Math.PI * GeoDistance.EARTH_RADIUS_KM / 180;
+
+    public record Neighbor(long id, double distanceKm) {
+    }
+
+    private record Point(double lat, double lon, long hash) {
+    }
+
+    private final ConcurrentSkipListMap<Long, Set<Long>> idsByHash = new ConcurrentSkipListMap<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    public synchronized void put(long id, double lat, double lon) {
+        Point point = new Point(lat, lon, encode(lat, lon));
+        Point previous = points.put(id, point);
+        if (previous != null) {
+            if (previous.hash() == point.hash()) {
+                return;
+            }
+            unlink(id, previous.hash());
+        }
+        idsByHash.computeIfAbsent(point.hash(), h -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public synchronized void remove(long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            unlink(id, previous.hash());
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // Points within radiusKm of (lat, lon), nearest first
+    public List<Neighbor> within(double lat, double lon, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + dLat)));
+        double dLon = cosLat > 1e-9 ? radiusKm / (KM_PER_DEGREE * cosLat) : 360;
+
+        List<Neighbor> result = new ArrayList<>();
+        if (dLat >= 90 || dLon >= 180) {
+            // Search box spans the globe; every point is a candidate
+            points.forEach((id, p) -> collect(result, id, p, lat, lon, radiusKm));
+        } else {
+            int level = levelFor(dLat, dLon);
+            int shift = 2 * (BITS_PER_AXIS - level);
+            long cellsPerAxis = 1L << level;
+
+            long latFrom = cell(Math.max(-90, lat - dLat), -90, 180, level);
+            long latTo = cell(Math.min(90, lat + dLat), -90, 180, level);
+            // Unwrapped, so a box crossing the antimeridian gives a range past either end
+            long lonFrom = (long) Math.floor((lon - dLon + 180) / 360 * cellsPerAxis);
+            long lonTo = (long) Math.floor((lon + dLon + 180) / 360 * cellsPerAxis);
+            if (lonTo - lonFrom >= cellsPerAxis) {
+                // Box is as wide as the whole band; visit each column once
+                lonFrom = 0;
+                lonTo = cellsPerAxis - 1;
+            }
+
+            for (long latCell = latFrom; latCell <= latTo; latCell++) {
+                for (long lonCell = lonFrom; lonCell <= lonTo; lonCell++) {
+                    long prefix = interleave(latCell, Math.floorMod(lonCell, cellsPerAxis), level);
+                    ConcurrentNavigableMap<Long, Set<Long>> range =
+                            idsByHash.subMap(prefix << shift, (prefix + 1) << shift);
+                    for (Set<Long> ids : range.values()) {
+                        for (Long id : ids) {
+                            Point p = points.get(id);
+                            if (p != null) {
+                                collect(result, id, p, lat, lon, radiusKm);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    private static void collect(List<Neighbor> result, long id, Point p, double lat, double lon, double radiusKm) {
+        double distance = GeoDistance.haversineKm(lat, lon, p.lat(), p.lon());
+        if (distance <= radiusKm) {
+            result.add(new Neighbor(id, distance));
+        }
+    }
+
+    private void unlink(long id, long hash) {
+        Set<Long> ids = idsByHash.get(hash);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByHash.remove(hash, ids);
+            }
+        }
+    }
+
+    // Finest level whose cells still cover the half-extents of the search box
+    private static int levelFor(double dLat, double dLon) {
+        int level = BITS_PER_AXIS;
+        while (level > 0 && (180.0 / (1L << level) < dLat || 360.0 / (1L << level) < dLon)) {
+            level--;
+        }
+        return level;
+    }
+
+    private static long encode(double lat, double lon) {
+        return interleave(cell(lat, -90, 180, BITS_PER_AXIS), cell(lon, -180, 360, BITS_PER_AXIS), BITS_PER_AXIS);
+    }
+
+    private static long cell(double value, double min, double span, int level) {
+        long cells = 1L << level;
+        double normalized = (value - min) / span;
+        if (span == 360) {
+            normalized -= Math.floor(normalized); // wrap longitude
+        }
+        long c = (long) (normalized * cells);
+        return Math.max(0, Math.min(cells - 1, c));
+    }
+
+    // Longitude bit first at each level, as in standard geohash
+    private static long interleave(long latCell, long lonCell, int level) {
+        long hash = 0;
+        for (int bit = level - 1; bit >= 0; bit--) {
+            hash = (hash << 1) | ((lonCell >>> bit) & 1);
+            hash = (hash << 1) | ((latCell >>> bit) & 1);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,137 @@
+package CareerVision.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.HashSet;
+
+/**
+ * Normalized fingerprint of a free-text prompt, used to recognise
+ * near-identical questions. Text is lowercased, stripped of punctuation and
+ * stopwords, and lightly stemmed. The remaining token sequence is the exact
+ * key, so word order still matters ("java over python" and "python over
+ * java" differ). A 64-bit SimHash over terms and adjacent term pairs puts
+ * rewordings like "How do I prepare for an interview?" and "how to prepare
+ * for interviews" a few bits apart, and the distinct term set confirms such
+ * near matches. Negations are kept so "not" changes the fingerprint.
+ */
+public final class PromptFingerprint {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "the", "and", "or", "but", "if", "then", "so", "of", "for", "to", "in", "on", "at",
+            "by", "with", "about", "from", "into", "as", "is", "am", "are", "was", "were", "be", "been",
+            "being", "do", "does", "did", "doing", "have", "has", "had", "i", "me", "my", "mine", "myself",
+            "we", "our", "you", "your", "it", "its", "this", "that", "these", "those", "there", "here",
+            "what", "which", "who", "whom", "how", "can", "could", "should", "would", "will", "shall",
+            "may", "might", "must", "please", "any", "some", "just", "really", "very", "also", "get",
+            "hi", "hello", "hey", "thanks", "thank", "tell", "give", "want", "need", "like", "know"
+    );
+
+    private final String key;
+    private final long simHash;
+    private final Set<String> terms;
+
+    private PromptFingerprint(String key, long simHash, Set<String> terms) {
+        this.key = key;
+        this.simHash = simHash;
+        this.terms = terms;
+    }
+
+    public static PromptFingerprint of(String text) {
+        List<String> tokens = tokenize(text);
+        Set<String> terms = new HashSet<>(tokens);
+
+        int[] weights = new int[64];
+        for (String token : tokens) {
+            addFeature(weights, token, 2);
+        }
+        for (int i = 1; i < tokens.size(); i++) {
+            addFeature(weights, tokens.get(i - 1) + " " + tokens.get(i), 1);
+        }
+
+        long hash = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                hash |= 1L << bit;
+            }
+        }
+        return new PromptFingerprint(String.join(" ", tokens), hash, Set.copyOf(terms));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getSimHash() {
+        return simHash;
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public int hammingDistance(PromptFingerprint other) {
+        return Long.bitCount(simHash ^ other.simHash);
+    }
+
+    // Jaccard similarity of the two term sets, used to confirm a SimHash match
+    public double termSimilarity(PromptFingerprint other) {
+        if (terms.isEmpty() && other.terms.isEmpty()) {
+            return 1.0;
+        }
+        int shared = 0;
+        for (String term : terms) {
+            if (other.terms.contains(term)) {
+                shared++;
+            }
+        }
+        return (double) shared / (terms.size() + other.terms.size() - shared);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            String token = stem(raw);
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Light plural folding so "interviews" and "interview" share a term
+    private static String stem(String token) {
+        if (token.length() > 4 && token.endsWith("ies")) {
+            return token.substring(0, token.length() - 3) + "y";
+        }
+        if (token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static void addFeature(int[] weights, String feature, int weight) {
+        long hash = fnv1a64(feature);
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+        }
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // Finalizer spreads FNV's weak low bits across the word
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
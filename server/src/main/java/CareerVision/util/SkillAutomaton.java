@@ -0,0 +1,220 @@
+package CareerVision.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton compiled to a dense transition table, used to find
+ * many skill spellings in a resume with a single scan. Patterns are matched
+ * case-insensitively on whole words: a hit only counts when it is not glued
+ * to a neighbouring letter or digit, so "java" does not fire inside
+ * "javascript". Whitespace runs in the text are treated as a single space.
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class SkillAutomaton {
+
+    // Characters outside ASCII, or never used by a pattern, share class 0
+    private static final int ASCII = 128;
+
+    private final int[] charClass;
+    private final int alphabetSize;
+    private final int[] delta;
+    private final int[][] outLabels;
+    private final int[][] outLengths;
+    private final int labelCount;
+
+    private SkillAutomaton(int[] charClass, int alphabetSize, int[] delta,
+                           int[][] outLabels, int[][] outLengths, int labelCount) {
+        this.charClass = charClass;
+        this.alphabetSize = alphabetSize;
+        this.delta = delta;
+        this.outLabels = outLabels;
+        this.outLengths = outLengths;
+        this.labelCount = labelCount;
+    }
+
+    /**
+     * Builds an automaton where {@code patterns.get(i)} reports {@code labels[i]}.
+     * Several patterns may share a label (variants of one skill) and the same
+     * pattern may appear with different labels.
+     */
+    public static SkillAutomaton compile(List<String> patterns, int[] labels) {
+        int[] charClass = new int[ASCII];
+        int alphabetSize = 1;
+        List<char[]> normalized = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            char[] chars = normalize(pattern);
+            normalized.add(chars);
+            for (char c : chars) {
+                if (c < ASCII && charClass[c] == 0) {
+                    charClass[c] = alphabetSize++;
+                }
+            }
+        }
+
+        // Trie over character classes, -1 marks a missing edge
+        List<int[]> trie = new ArrayList<>();
+        List<List<int[]>> outputs = new ArrayList<>();
+        trie.add(newRow(alphabetSize));
+        outputs.add(new ArrayList<>());
+        int maxLabel = -1;
+
+        for (int p = 0; p < normalized.size(); p++) {
+            char[] chars = normalized.get(p);
+            if (chars.length == 0 || !isAscii(chars)) {
+                continue;
+            }
+            int state = 0;
+            for (char c : chars) {
+                int cls = charClass[c];
+                int next = trie.get(state)[cls];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[cls] = next;
+                    trie.add(newRow(alphabetSize));
+                    outputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            outputs.get(state).add(new int[]{labels[p], chars.length});
+            maxLabel = Math.max(maxLabel, labels[p]);
+        }
+
+        int stateCount = trie.size();
+        int[] delta = new int[stateCount * alphabetSize];
+        int[] fail = new int[stateCount];
+        int[][] outLabels = new int[stateCount][];
+        int[][] outLengths = new int[stateCount][];
+
+        // Breadth-first: resolve failure links and turn the trie into a full DFA
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int next = trie.get(0)[cls];
+            if (next > 0) {
+                delta[cls] = next;
+                fail[next] = 0;
+                queue.add(next);
+            } else {
+                delta[cls] = 0;
+            }
+        }
+        collectOutputs(0, outputs, fail, outLabels, outLengths);
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            collectOutputs(state, outputs, fail, outLabels, outLengths);
+            int[] row = trie.get(state);
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int next = row[cls];
+                if (next > 0) {
+                    fail[next] = delta[fail[state] * alphabetSize + cls];
+                    delta[state * alphabetSize + cls] = next;
+                    queue.add(next);
+                } else {
+                    delta[state * alphabetSize + cls] = delta[fail[state] * alphabetSize + cls];
+                }
+            }
+        }
+
+        return new SkillAutomaton(charClass, alphabetSize, delta, outLabels, outLengths, maxLabel + 1);
+    }
+
+    /**
+     * Returns the set of labels whose patterns occur in {@code text} as whole words.
+     */
+    public BitSet scan(CharSequence text) {
+        BitSet found = new BitSet(labelCount);
+        if (text == null || text.length() == 0) {
+            return found;
+        }
+
+        char[] chars = normalize(text);
+        int state = 0;
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            int cls = c < ASCII ? charClass[c] : 0;
+            state = delta[state * alphabetSize + cls];
+
+            int[] labels = outLabels[state];
+            if (labels.length == 0) {
+                continue;
+            }
+            boolean boundaryAfter = i + 1 >= chars.length || !Character.isLetterOrDigit(chars[i + 1]);
+            if (!boundaryAfter) {
+                continue;
+            }
+            int[] lengths = outLengths[state];
+            for (int k = 0; k < labels.length; k++) {
+                int start = i - lengths[k] + 1;
+                if (start == 0 || !Character.isLetterOrDigit(chars[start - 1])) {
+                    found.set(labels[k]);
+                }
+            }
+        }
+        return found;
+    }
+
+    public int getStateCount() {
+        return outLabels.length;
+    }
+
+    // Lower-cases and folds whitespace runs into a single space
+    private static char[] normalize(CharSequence text) {
+        char[] out = new char[text.length()];
+        int length = 0;
+        boolean previousSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    out[length++] = ' ';
+                    previousSpace = true;
+                }
+            } else {
+                out[length++] = Character.toLowerCase(c);
+                previousSpace = false;
+            }
+        }
+        if (length > 0 && out[length - 1] == ' ') {
+            length--;
+        }
+        return length == out.length ? out : Arrays.copyOf(out, length);
+    }
+
+    private static boolean isAscii(char[] chars) {
+        for (char c : chars) {
+            if (c >= ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] newRow(int alphabetSize) {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static void collectOutputs(int state, List<List<int[]>> outputs, int[] fail,
+                                       int[][] outLabels, int[][] outLengths) {
+        List<int[]> own = outputs.get(state);
+        int[] inheritedLabels = state == 0 ? new int[0] : outLabels[fail[state]];
+        int[] inheritedLengths = state == 0 ? new int[0] : outLengths[fail[state]];
+
+        int[] labels = new int[own.size() + inheritedLabels.length];
+        int[] lengths = new int[labels.length];
+        for (int i = 0; i < own.size(); i++) {
+            labels[i] = own.get(i)[0];
+            lengths[i] = own.get(i)[1];
+        }
+        System.arraycopy(inheritedLabels, 0, labels, own.size(), inheritedLabels.length);
+        System.arraycopy(inheritedLengths, 0, lengths, own.size(), inheritedLengths.length);
+        outLabels[state] = labels;
+        outLengths[state] = lengths;
+    }
+}
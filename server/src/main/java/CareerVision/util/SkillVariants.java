@@ -0,0 +1,254 @@
+package CareerVision.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java copy of resume-matcher/app/skill_variants.py: canonical skill name to
+ * the alternative spellings and abbreviations that count as the same skill.
+ * Keep the two in sync when adding skills.
+ */
+public final class SkillVariants {
+
+    public static final Map<String, List<String>> FIELD_SKILL_VARIANTS = buildVariants();
+
+    private SkillVariants() {
+    }
+
+    private static Map<String, List<String>> buildVariants() {
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+
+        // Software / Computer Engineering
+        put(variants, "javascript", "js", "java script");
+        put(variants, "typescript", "ts", "type script");
+        put(variants, "react", "reactjs", "react.js");
+        put(variants, "angular", "angularjs", "angular.js");
+        put(variants, "vue.js", "vue", "vuejs");
+        put(variants, "next.js", "nextjs", "next");
+        put(variants, "html5", "html", "hypertext markup language");
+        put(variants, "css3", "css", "cascading style sheets");
+        put(variants, "tailwind css", "tailwindcss", "tailwind");
+        put(variants, "sass/scss", "sass", "scss");
+        put(variants, "node.js", "nodejs", "node js", "node");
+        put(variants, "python", "py", "python3");
+        put(variants, "django", "django framework");
+        put(variants, "flask", "flask framework");
+        put(variants, "java", "jdk", "jre");
+        put(variants, "spring boot", "springboot");
+        put(variants, "c#", "c sharp");
+        put(variants, ".net core", "dotnet core", "dot net core");
+        put(variants, "ruby on rails", "ror");
+        put(variants, "php", "php7", "php8");
+        put(variants, "laravel", "laravel framework");
+        put(variants, "go", "golang");
+        put(variants, "rust", "rustlang");
+        put(variants, "sql", "structured query language");
+        put(variants, "postgresql", "postgres", "psql");
+        put(variants, "mysql", "my sql");
+        put(variants, "mongodb", "mongo db", "mongo");
+        put(variants, "redis", "redis db");
+        put(variants, "firebase", "firebase db");
+        put(variants, "dynamodb", "amazon dynamodb");
+        put(variants, "docker", "docker container");
+        put(variants, "kubernetes", "k8s");
+        put(variants, "aws", "amazon web services");
+        put(variants, "azure", "microsoft azure");
+        put(variants, "google cloud", "gcp", "google cloud platform");
+        put(variants, "terraform", "terraform iac");
+        put(variants, "ci/cd", "continuous integration", "continuous delivery", "continuous deployment");
+        put(variants, "jenkins", "jenkins ci");
+        put(variants, "git", "git vcs");
+
+        // AI / ML
+        put(variants, "machine learning", "ml");
+        put(variants, "tensorflow", "tf");
+        put(variants, "pytorch", "torch");
+        put(variants, "natural language processing", "nlp");
+        put(variants, "computer vision", "cv");
+        put(variants, "data science", "ds");
+
+        // Emerging Tech
+        put(variants, "blockchain", "dlt", "distributed ledger technology");
+        put(variants, "solidity", "solidity language");
+        put(variants, "web3", "web 3");
+        put(variants, "iot", "internet of things");
+        put(variants, "ar/vr", "augmented reality", "virtual reality");
+
+        // APIs
+        put(variants, "graphql", "graph ql");
+        put(variants, "rest apis", "restful api", "rest", "rest api");
+        put(variants, "grpc", "google remote procedure call");
+
+        // Security
+        put(variants, "cybersecurity", "cyber security");
+        put(variants, "ethical hacking", "penetration testing", "pentest");
+        put(variants, "penetration testing", "pentesting");
+
+        // Processes
+        put(variants, "agile methodology", "agile");
+        put(variants, "scrum", "scrum framework");
+        put(variants, "jira", "jira software");
+        put(variants, "microservices architecture", "microservices", "microservice");
+
+        // Civil Engineering
+        put(variants, "autocad", "auto cad", "cad", "computer aided design");
+        put(variants, "revit", "autodesk revit", "bim");
+        put(variants, "staad pro", "staad", "staad.pro");
+        put(variants, "etabs", "e-tabs", "extended tabs");
+        put(variants, "sap2000", "sap 2000", "structural analysis program");
+        put(variants, "primavera p6", "primavera", "p6");
+        put(variants, "ms project", "microsoft project");
+        put(variants, "bentley microstation", "microstation");
+        put(variants, "civil 3d", "autocad civil 3d");
+        put(variants, "sketchup", "google sketchup");
+        put(variants, "structural analysis", "structure analysis");
+        put(variants, "concrete design", "reinforced concrete design");
+        put(variants, "steel design", "structural steel design");
+        put(variants, "foundation design", "footing design");
+        put(variants, "highway design", "road design");
+        put(variants, "surveying", "land surveying");
+        put(variants, "construction management", "construction mgmt");
+        put(variants, "project management", "pm", "pmp");
+        put(variants, "quantity surveying", "qs");
+        put(variants, "bill of quantities (boq)", "boq", "bill of quantity");
+        put(variants, "site supervision", "site engineer", "site management");
+        put(variants, "geotechnical engineering", "soil mechanics");
+        put(variants, "environmental engineering", "env engineering");
+        put(variants, "water resources engineering", "hydraulic engineering");
+        put(variants, "transportation engineering", "traffic engineering");
+
+        // Mechanical Engineering
+        put(variants, "solidworks", "solid works", "sw");
+        put(variants, "autocad mechanical", "mechanical cad");
+        put(variants, "catia", "computer aided three dimensional interactive application");
+        put(variants, "creo (pro/engineer)", "creo", "pro engineer", "pro/engineer");
+        put(variants, "inventor", "autodesk inventor");
+        put(variants, "fusion 360", "fusion360");
+        put(variants, "ansys", "finite element analysis", "fea");
+        put(variants, "matlab", "matrix laboratory");
+        put(variants, "simulink", "matlab simulink");
+        put(variants, "abaqus", "abaqus cae");
+        put(variants, "nx (unigraphics)", "siemens nx", "unigraphics");
+        put(variants, "finite element analysis (fea)", "fea");
+        put(variants, "computational fluid dynamics (cfd)", "cfd");
+        put(variants, "thermodynamics", "thermo");
+        put(variants, "heat transfer", "thermal transfer");
+        put(variants, "fluid mechanics", "fluids");
+        put(variants, "machine design", "mechanical design");
+        put(variants, "manufacturing processes", "production processes", "manufacturing process");
+        put(variants, "cnc programming", "cnc machining");
+        put(variants, "lean manufacturing", "lean");
+        put(variants, "six sigma", "6 sigma", "lean six sigma");
+        put(variants, "quality control", "qc", "quality assurance", "qa");
+        put(variants, "material science", "materials science");
+        put(variants, "robotics", "automation robotics");
+        put(variants, "hvac design", "heating ventilation and air conditioning");
+        put(variants, "automotive engineering", "auto engineering");
+        put(variants, "product design", "industrial design");
+
+        // Electrical Engineering
+        put(variants, "matlab/simulink", "matlab simulink");
+        put(variants, "labview", "lab view");
+        put(variants, "pspice", "p-spice", "spice");
+        put(variants, "multisim", "multi-sim");
+        put(variants, "altium designer", "altium");
+        put(variants, "eagle pcb", "eagle");
+        put(variants, "kicad", "ki cad");
+        put(variants, "etap", "electrical transient analyzer program");
+        put(variants, "powerworld", "power world");
+        put(variants, "autocad electrical", "electrical cad");
+        put(variants, "eplan", "eplan electric");
+        put(variants, "plc programming", "plc", "programmable logic controller");
+        put(variants, "scada systems", "scada", "scada system");
+        put(variants, "hmi design", "human machine interface");
+        put(variants, "power systems analysis", "psa");
+        put(variants, "circuit analysis", "circuits");
+        put(variants, "digital signal processing", "dsp");
+        put(variants, "control systems", "controls", "control system");
+        put(variants, "embedded systems", "embedded dev", "embedded system");
+        put(variants, "microcontrollers", "mcu", "microcontroller");
+        put(variants, "arduino", "arduino board");
+        put(variants, "raspberry pi", "raspi");
+        put(variants, "fpga programming", "fpga");
+        put(variants, "vhdl", "vhsic hardware description language");
+        put(variants, "verilog", "verilog hdl");
+        put(variants, "power electronics", "pe");
+        put(variants, "motor control", "motor drives");
+        put(variants, "renewable energy systems", "res", "renewable energy system");
+        put(variants, "smart grid", "intelligent grid");
+        put(variants, "telecommunications", "telecom", "telecommunication");
+        put(variants, "rf engineering", "radio frequency engineering");
+
+        // Chemical Engineering
+        put(variants, "aspen plus", "aspenplus");
+        put(variants, "aspen hysys", "hysys");
+        put(variants, "chemcad", "chem cad");
+        put(variants, "ansys fluent", "fluent");
+        put(variants, "comsol multiphysics", "comsol");
+        put(variants, "process design", "chemical process design");
+        put(variants, "process simulation", "chemical process simulation");
+        put(variants, "distillation design", "distillation column design");
+        put(variants, "reactor design", "chemical reactor design");
+        put(variants, "heat exchanger design", "heat exchanger");
+        put(variants, "mass transfer", "mass transport");
+        put(variants, "chemical kinetics", "reaction kinetics");
+        put(variants, "process control", "chemical process control");
+        put(variants, "process safety", "psm");
+        put(variants, "hazop studies", "hazard and operability study");
+        put(variants, "petrochemical processes", "petchem");
+        put(variants, "pharmaceutical manufacturing", "pharma manufacturing");
+        put(variants, "biochemical engineering", "bioengineering");
+        put(variants, "materials engineering", "materials science");
+
+        // Industrial Engineering
+        put(variants, "operations research", "or");
+        put(variants, "supply chain management", "scm");
+        put(variants, "statistical process control", "spc");
+        put(variants, "quality management", "qm");
+        put(variants, "production planning", "pp");
+        put(variants, "inventory management", "im");
+        put(variants, "facility layout design", "facility planning");
+        put(variants, "work study", "time study");
+        put(variants, "time and motion study", "tms");
+        put(variants, "ergonomics", "human factors");
+        put(variants, "cost engineering", "cost estimation");
+        put(variants, "enterprise resource planning (erp)", "erp");
+        put(variants, "material requirements planning (mrp)", "mrp");
+        put(variants, "just-in-time (jit)", "jit");
+        put(variants, "total quality management (tqm)", "tqm");
+        put(variants, "simulation modeling", "sim modeling");
+        put(variants, "business process improvement", "bpi");
+
+        // General & Professional Skills
+        put(variants, "technical writing", "tech writing");
+        put(variants, "safety engineering", "safety eng");
+        put(variants, "leadership", "team leadership");
+        put(variants, "team management", "team leadership");
+        put(variants, "communication skills", "communications");
+        put(variants, "presentation skills", "public speaking");
+        put(variants, "negotiation", "negotiating");
+        put(variants, "time management", "timely delivery");
+        put(variants, "strategic planning", "strategic mgmt");
+        put(variants, "budget management", "budgeting");
+        put(variants, "stakeholder management", "stakeholder relations");
+        put(variants, "vendor management", "supplier management");
+        put(variants, "contract management", "contracts");
+        put(variants, "business development", "bizdev");
+        put(variants, "customer relations", "customer service");
+        put(variants, "cross-functional collaboration", "cross team collaboration");
+        put(variants, "change management", "change control");
+        put(variants, "mentoring", "coaching");
+        put(variants, "training & development", "training");
+        put(variants, "performance management", "performance review");
+        put(variants, "regulatory compliance", "compliance");
+        put(variants, "international standards (iso)", "iso certification");
+
+        return Collections.unmodifiableMap(variants);
+    }
+
+    private static void put(Map<String, List<String>> variants, String skill, String... alternatives) {
+        variants.put(skill, List.of(alternatives));
+    }
+}
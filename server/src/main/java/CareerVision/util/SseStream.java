@@ -0,0 +1,47 @@
+package CareerVision.util;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An SseEmitter plus a flag for the client having gone away (timeout,
+ * network error, failed send). Once the client is gone, sends are
+ * skipped; the producer keeps running so its result is still saved.
+ */
+public final class SseStream {
+
+    private final SseEmitter emitter;
+    private final AtomicBoolean clientGone = new AtomicBoolean();
+
+    public SseStream(long timeoutMs) {
+        this.emitter = new SseEmitter(timeoutMs);
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public boolean isClientGone() {
+        return clientGone.get();
+    }
+
+    // Sends a named event; never throws
+    public void send(String event, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            clientGone.set(true);
+        }
+    }
+
+    public void complete() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,123 @@
+package CareerVision.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming bounded top-K selection. Items are offered one at a time with a
+ * primitive score and only the best {@code k} are kept in a min-heap, so
+ * selecting from n items costs O(n log k) time and O(k) space however many
+ * are offered. Ties go to the item offered first.
+ *
+ * Not thread safe; use one instance per selection.
+ */
+public final class TopKSelector<T> {
+
+    // heap[0] is the weakest slot currently kept; slots index the parallel arrays
+    private final int[] heap;
+    private final double[] scores;
+    private final long[] arrivals;
+    private final Object[] items;
+    private int size;
+    private long offered;
+
+    public TopKSelector(int k) {
+        int capacity = Math.max(0, k);
+        this.heap = new int[capacity];
+        this.scores = new double[capacity];
+        this.arrivals = new long[capacity];
+        this.items = new Object[capacity];
+    }
+
+    // Keeps the item if it is among the k best seen so far
+    public void offer(double score, T item) {
+        long arrival = offered++;
+        if (heap.length == 0) {
+            return;
+        }
+        if (size < heap.length) {
+            int slot = size;
+            scores[slot] = score;
+            arrivals[slot] = arrival;
+            items[slot] = item;
+            heap[size] = slot;
+            siftUp(size);
+            size++;
+        } else if (better(score, arrival, scores[heap[0]], arrivals[heap[0]])) {
+            int slot = heap[0];
+            scores[slot] = score;
+            arrivals[slot] = arrival;
+            items[slot] = item;
+            siftDown(0, size);
+        }
+    }
+
+    // Number of items currently kept
+    public int size() {
+        return size;
+    }
+
+    public long getOffered() {
+        return offered;
+    }
+
+    // The kept items, best first; the selector is empty afterwards
+    @SuppressWarnings("unchecked")
+    public List<T> bestFirst() {
+        Object[] result = new Object[size];
+        // Pop weakest first to fill the result back to front
+        for (int end = size - 1; end >= 0; end--) {
+            result[end] = items[heap[0]];
+            items[heap[0]] = null;
+            heap[0] = heap[end];
+            siftDown(0, end);
+        }
+        size = 0;
+
+        List<T> best = new ArrayList<>(result.length);
+        for (Object item : result) {
+            best.add((T) item);
+        }
+        return best;
+    }
+
+    private static boolean better(double score, long arrival, double otherScore, long otherArrival) {
+        int cmp = Double.compare(score, otherScore);
+        return cmp > 0 || (cmp == 0 && arrival < otherArrival);
+    }
+
+    private boolean better(int slot, int otherSlot) {
+        return better(scores[slot], arrivals[slot], scores[otherSlot], arrivals[otherSlot]);
+    }
+
+    private void siftUp(int pos) {
+        int slot = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!better(heap[parent], slot)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = slot;
+    }
+
+    private void siftDown(int pos, int size) {
+        int slot = heap[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && better(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!better(slot, heap[child])) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = slot;
+    }
+}
@@ -0,0 +1,108 @@
+package CareerVision.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory LRU in front of a database table, shared by the
+ * content-addressed caches. Lookups try memory, then the store (promoting
+ * what they find), and count memory hits, store hits and misses for the
+ * stats endpoints. The store is best effort: read and write failures are
+ * logged and treated as a miss or a skipped write, never thrown.
+ * <p>
+ * Entries can carry an expiry check; an entry that fails it counts as a
+ * miss and is dropped from memory.
+ */
+public final class TwoTierCache<V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final String name;
+    private final Predicate<V> isFresh;
+    private final Map<String, V> memoryCache;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong storeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public TwoTierCache(String name, int maxEntries) {
+        this(name, maxEntries, value -> true);
+    }
+
+    public TwoTierCache(String name, int maxEntries, Predicate<V> isFresh) {
+        this.name = name;
+        this.isFresh = isFresh;
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // Empty on a miss; the caller computes the value and hands it to put
+    public Optional<V> get(String key, Function<String, Optional<V>> storeLookup) {
+        V cached = memoryCache.get(key);
+        if (cached != null && isFresh.test(cached)) {
+            memoryHits.incrementAndGet();
+            return Optional.of(cached);
+        }
+
+        try {
+            Optional<V> stored = storeLookup.apply(key).filter(isFresh);
+            if (stored.isPresent()) {
+                storeHits.incrementAndGet();
+                memoryCache.put(key, stored.get());
+                return stored;
+            }
+        } catch (Exception e) {
+            logger.warn("Could not read {} cache for {}: {}", name, key, e.getMessage());
+        }
+
+        memoryCache.remove(key);
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String key, V value, Consumer<V> storeWriter) {
+        try {
+            storeWriter.accept(value);
+        } catch (Exception e) {
+            // A concurrent request for the same key may have stored it first
+            logger.debug("Could not store {} cache for {}: {}", name, key, e.getMessage());
+        }
+        memoryCache.put(key, value);
+    }
+
+    // Drops matching entries from memory only; the caller clears the store
+    public void evictFromMemory(Predicate<String> keyFilter) {
+        synchronized (memoryCache) {
+            memoryCache.keySet().removeIf(keyFilter);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long memory = memoryHits.get();
+        long store = storeHits.get();
+        long miss = misses.get();
+        long total = memory + store + miss;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("memoryHits", memory);
+        stats.put("storeHits", store);
+        stats.put("misses", miss);
+        stats.put("hitRatio", total > 0 ? (double) (memory + store) / total : 0.0);
+        stats.put("memoryEntries", memoryCache.size());
+        return stats;
+    }
+}
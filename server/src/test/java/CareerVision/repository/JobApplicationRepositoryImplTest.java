@@ -0,0 +1,119 @@
+package CareerVision.repository;
+
+import CareerVision.dto.ApplicationFilter;
+import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+class JobApplicationRepositoryImplTest {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        job = new Job();
+        job.setTitle("Backend Engineer");
+        entityManager.persist(job);
+    }
+
+    @Test
+    void updateMatchPercentagesWritesOnlyTheScoreColumn() {
+        JobApplication first = application("Ada", null);
+        JobApplication second = application("Grace", 40.0);
+        first.setStatus("Accepted");
+        entityManager.flush();
+        entityManager.clear();
+
+        int updated = jobApplicationRepository.updateMatchPercentages(Map.of(
+                first.getId(), 72.5,
+                second.getId(), 40.005));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        JobApplication reloaded = jobApplicationRepository.findById(first.getId()).orElseThrow();
+        assertThat(reloaded.getMatchPercentage()).isEqualTo(72.5);
+        assertThat(reloaded.getStatus()).isEqualTo("Accepted");
+        // Within 0.01 of the stored value, so left unchanged
+        assertThat(jobApplicationRepository.findById(second.getId()).orElseThrow().getMatchPercentage())
+                .isEqualTo(40.0);
+    }
+
+    @Test
+    void updateMatchPercentagesWithNoScoresIsANoOp() {
+        assertThat(jobApplicationRepository.updateMatchPercentages(Map.of())).isZero();
+    }
+
+    @Test
+    void filteredPageKeepsApplicationsWithoutAnApplicant() {
+        JobApplication withApplicant = application("Ada", 90.0);
+        JobApplication orphan = new JobApplication();
+        orphan.setJob(job);
+        orphan.setMatchPercentage(70.0);
+        entityManager.persist(orphan);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<JobApplication> page = jobApplicationRepository.findFilteredPage(filter(""), 10);
+
+        assertThat(page).extracting(JobApplication::getId).containsExactly(withApplicant.getId(), orphan.getId());
+        assertThat(page.get(1).getApplicant()).isNull();
+    }
+
+    @Test
+    void searchTreatsWildcardCharactersLiterally() {
+        JobApplication percent = application("Top 5% Engineer", 80.0);
+        JobApplication underscore = application("ada_lovelace", 70.0);
+        application("Top 5 Engineer", 60.0);
+        application("adaXlovelace", 50.0);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(jobApplicationRepository.findFilteredPage(filter("5%"), 10))
+                .extracting(JobApplication::getId).containsExactly(percent.getId());
+        assertThat(jobApplicationRepository.findFilteredPage(filter("a_l"), 10))
+                .extracting(JobApplication::getId).containsExactly(underscore.getId());
+        assertThat(jobApplicationRepository.findFilteredPage(filter("%"), 10))
+                .extracting(JobApplication::getId).containsExactly(percent.getId());
+    }
+
+    @Test
+    void escapeLikeEscapesTheEscapeCharacterToo() {
+        assertThat(JobApplicationRepositoryImpl.escapeLike("50%_off!")).isEqualTo("50!%!_off!!");
+    }
+
+    private ApplicationFilter filter(String search) {
+        return new ApplicationFilter(job.getId(), "all", null, null, search, "percentage", null);
+    }
+
+    private JobApplication application(String applicantName, Double matchPercentage) {
+        User applicant = new User();
+        applicant.setName(applicantName);
+        applicant.setEmail(applicantName.toLowerCase() + "@example.com");
+        entityManager.persist(applicant);
+
+        JobApplication application = new JobApplication();
+        application.setApplicant(applicant);
+        application.setJob(job);
+        application.setMatchPercentage(matchPercentage);
+        return entityManager.persist(application);
+    }
+}
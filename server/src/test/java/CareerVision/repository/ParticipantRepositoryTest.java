@@ -0,0 +1,90 @@
+package CareerVision.repository;
+
+import CareerVision.model.Event;
+import CareerVision.model.Participant;
+import CareerVision.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+class ParticipantRepositoryTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = new Event();
+        event.setTitle("Career Fair");
+        event.setEventDate(LocalDateTime.now().plusDays(7));
+        event.setLocation("Colombo");
+        event.setOrganizerEmail("organizer@example.com");
+        event.setEventType(Event.EventType.CONFERENCE);
+        entityManager.persist(event);
+    }
+
+    @Test
+    void cancelChangesARegistrationOnlyOnce() {
+        User user = register("ada@example.com").getUser();
+        entityManager.flush();
+
+        assertThat(participantRepository.cancel(event.getId(), user.getId())).isEqualTo(1);
+        assertThat(participantRepository.cancel(event.getId(), user.getId())).isZero();
+        assertThat(participantRepository.cancel(event.getId(), -1L)).isZero();
+    }
+
+    @Test
+    void userCannotRegisterTwiceForTheSameEvent() {
+        User user = register("ada@example.com").getUser();
+
+        assertThatThrownBy(() -> participantRepository.saveAndFlush(new Participant(event, user)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void reconcileRecountsFromParticipantsAndAddIsRelative() {
+        register("ada@example.com");
+        register("grace@example.com");
+        User leaving = register("alan@example.com").getUser();
+        entityManager.flush();
+        participantRepository.cancel(event.getId(), leaving.getId());
+        eventRepository.addParticipantCounts(event.getId(), 40, 7);
+
+        eventRepository.reconcileParticipantCounts();
+        entityManager.clear();
+        Event reconciled = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(reconciled.getRegisteredCount()).isEqualTo(2);
+        assertThat(reconciled.getCancelledCount()).isEqualTo(1);
+
+        eventRepository.addParticipantCounts(event.getId(), 1, 0);
+        entityManager.clear();
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getRegisteredCount()).isEqualTo(3);
+    }
+
+    private Participant register(String email) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        entityManager.persist(user);
+        return entityManager.persist(new Participant(event, user));
+    }
+}
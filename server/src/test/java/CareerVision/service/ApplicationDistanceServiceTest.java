@@ -0,0 +1,125 @@
+package CareerVision.service;
+
+import CareerVision.model.Company;
+import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.model.User;
+import CareerVision.util.GeoDistance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import(ApplicationDistanceService.class)
+class ApplicationDistanceServiceTest {
+
+    @Autowired
+    private ApplicationDistanceService applicationDistanceService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Company company;
+    private User nearby;
+    private User unknown;
+    private JobApplication nearbyApplication;
+    private JobApplication unknownApplication;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setLat(6.9271f);
+        company.setLon(79.8612f);
+        entityManager.persist(company);
+
+        Job job = new Job();
+        job.setTitle("Backend Engineer");
+        job.setCompany(company);
+        entityManager.persist(job);
+
+        nearby = user("ada@example.com", 7.2906f, 80.6337f);
+        unknown = user("grace@example.com", null, null);
+        nearbyApplication = application(job, nearby, 5.0);
+        unknownApplication = application(job, unknown, 12.0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recomputeForCompanyWritesDistancesAndClearsUnknownOnes() {
+        int updated = applicationDistanceService.recomputeForCompany(company);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(distance(nearbyApplication)).isCloseTo(
+                GeoDistance.haversineKm(6.9271f, 79.8612f, 7.2906f, 80.6337f), within(1e-6));
+        assertThat(distance(unknownApplication)).isNull();
+
+        // Nothing left to change; each recompute runs in a fresh persistence context in production
+        entityManager.clear();
+        assertThat(applicationDistanceService.recomputeForCompany(company)).isZero();
+    }
+
+    @Test
+    void recomputeForUserFollowsTheApplicantsMove() {
+        applicationDistanceService.recomputeForCompany(company);
+        entityManager.clear();
+        nearby.setLat(6.9271f);
+        nearby.setLon(79.8612f);
+
+        assertThat(applicationDistanceService.recomputeForUser(nearby)).isEqualTo(1);
+        assertThat(distance(nearbyApplication)).isCloseTo(0.0, within(1e-6));
+    }
+
+    @Test
+    void writeBackLeavesOtherColumnsAlone() {
+        // The recompute works on this managed, now stale copy of the row
+        entityManager.find(JobApplication.class, nearbyApplication.getId());
+        jdbcTemplate.update("UPDATE job_application SET status = 'Accepted', match_percentage = 91 WHERE id = ?",
+                nearbyApplication.getId());
+
+        applicationDistanceService.recomputeForCompany(company);
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT status, match_percentage, distance FROM job_application WHERE id = ?",
+                nearbyApplication.getId()))
+                .containsEntry("STATUS", "Accepted")
+                .containsEntry("MATCH_PERCENTAGE", 91.0)
+                .hasEntrySatisfying("DISTANCE", d -> assertThat(d).isNotNull());
+    }
+
+    private Double distance(JobApplication application) {
+        return jdbcTemplate.queryForObject("SELECT distance FROM job_application WHERE id = ?",
+                Double.class, application.getId());
+    }
+
+    private User user(String email, Float lat, Float lon) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setLat(lat);
+        user.setLon(lon);
+        return entityManager.persist(user);
+    }
+
+    private JobApplication application(Job job, User applicant, Double distance) {
+        JobApplication application = new JobApplication();
+        application.setJob(job);
+        application.setApplicant(applicant);
+        application.setDistance(distance);
+        return entityManager.persist(application);
+    }
+}
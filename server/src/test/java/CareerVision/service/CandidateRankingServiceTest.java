@@ -0,0 +1,87 @@
+package CareerVision.service;
+
+import CareerVision.dto.RankedCandidate;
+import CareerVision.model.Job;
+import CareerVision.model.JobApplication;
+import CareerVision.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import(CandidateRankingService.class)
+class CandidateRankingServiceTest {
+
+    @Autowired
+    private CandidateRankingService candidateRankingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void ranksByWeightedMatchAndRelativeDistance() {
+        Job job = persistJob();
+        Job otherJob = persistJob();
+        application(job, "near-good", 80.0, 10.0);
+        application(job, "far-good", 90.0, 100.0);
+        application(job, "near-poor", 20.0, 0.0);
+        application(job, null, null, null);
+        application(otherJob, "other-job", 100.0, 0.0);
+        entityManager.flush();
+
+        List<RankedCandidate> top = candidateRankingService.rankTopCandidates(job.getId(), 3, 0.7, 0.3);
+
+        // near-good 56 + 27, far-good 63 + 0, near-poor 14 + 30, no-data 0 + 30
+        assertThat(top).extracting(RankedCandidate::getUserName)
+                .containsExactly("near-good", "far-good", "near-poor");
+        assertThat(top.get(0).getFinalScore()).isEqualTo(83.0);
+    }
+
+    @Test
+    void missingValuesCountAsZeroAndUnknownApplicantsAreNamed() {
+        Job job = persistJob();
+        application(job, null, null, null);
+        entityManager.flush();
+
+        List<RankedCandidate> top = candidateRankingService.rankTopCandidates(job.getId(), 5, 0.7, 0.3);
+
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).getUserName()).isEqualTo("Unknown");
+        assertThat(top.get(0).getFinalScore()).isEqualTo(30.0);
+    }
+
+    @Test
+    void jobWithoutApplicationsRanksNobody() {
+        Job job = persistJob();
+
+        assertThat(candidateRankingService.rankTopCandidates(job.getId(), 5, 0.7, 0.3)).isEmpty();
+    }
+
+    private Job persistJob() {
+        Job job = new Job();
+        job.setTitle("Site Engineer");
+        return entityManager.persist(job);
+    }
+
+    private void application(Job job, String applicantName, Double matchPercentage, Double distance) {
+        JobApplication application = new JobApplication();
+        if (applicantName != null) {
+            User applicant = new User();
+            applicant.setName(applicantName);
+            applicant.setEmail(applicantName + "@example.com");
+            application.setApplicant(entityManager.persist(applicant));
+        }
+        application.setJob(job);
+        application.setMatchPercentage(matchPercentage);
+        application.setDistance(distance);
+        entityManager.persist(application);
+    }
+}
@@ -0,0 +1,181 @@
+package CareerVision.service;
+
+import CareerVision.model.EmailOutbox;
+import CareerVision.model.Event;
+import CareerVision.model.User;
+import CareerVision.repository.EmailOutboxRepository;
+import CareerVision.repository.EventRepository;
+import CareerVision.repository.UserRepository;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Runs outside a test transaction so the mail executor's threads see committed rows
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import(EmailOutboxService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxServiceTest {
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Event event;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        event = new Event();
+        event.setTitle("Career Fair");
+        event.setEventDate(LocalDateTime.now().plusDays(7));
+        event.setLocation("Colombo");
+        event.setOrganizerEmail("organizer@example.com");
+        event.setEventType(Event.EventType.CONFERENCE);
+        event = eventRepository.save(event);
+
+        user = new User();
+        user.setName("Ada");
+        user.setEmail("ada@example.com");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void claimSucceedsOnceOnly() {
+        EmailOutbox mail = pending();
+
+        assertThat(emailOutboxRepository.claim(mail.getId(), LocalDateTime.now())).isEqualTo(1);
+        assertThat(emailOutboxRepository.claim(mail.getId(), LocalDateTime.now())).isZero();
+        assertThat(reload(mail).getStatus()).isEqualTo(EmailOutbox.Status.SENDING);
+    }
+
+    @Test
+    void onlyStaleClaimsAreReleased() {
+        EmailOutbox stale = pending();
+        EmailOutbox fresh = pending();
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.claim(stale.getId(), now.minusMinutes(30));
+        emailOutboxRepository.claim(fresh.getId(), now);
+
+        assertThat(emailOutboxRepository.releaseStaleClaims(now.minusMinutes(10))).isEqualTo(1);
+        assertThat(reload(stale).getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(reload(stale).getClaimedAt()).isNull();
+        assertThat(reload(fresh).getStatus()).isEqualTo(EmailOutbox.Status.SENDING);
+    }
+
+    @Test
+    void dueIdsSkipClaimedAndBackedOffRows() {
+        EmailOutbox due = pending();
+        EmailOutbox claimed = pending();
+        EmailOutbox backedOff = pending();
+        emailOutboxRepository.claim(claimed.getId(), LocalDateTime.now());
+        backedOff.setNextAttemptAt(LocalDateTime.now().plusMinutes(5));
+        emailOutboxRepository.save(backedOff);
+
+        assertThat(emailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, 10)))
+                .containsExactly(due.getId());
+    }
+
+    @Test
+    void repeatedPollsSendEachMailOnce() throws Exception {
+        EmailOutbox mail = pending();
+
+        emailOutboxService.pollOutbox();
+        emailOutboxService.pollOutbox();
+        EmailOutbox sent = awaitStatus(mail, status -> status == EmailOutbox.Status.SENT);
+        emailOutboxService.pollOutbox();
+
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+        verify(emailService, times(1)).sendEventRegistrationConfirmation(any(Event.class), any(User.class));
+    }
+
+    @Test
+    void failedSendBacksOffAndGivesUpAfterMaxAttempts() throws Exception {
+        doThrow(new MessagingException("SMTP down"))
+                .when(emailService).sendEventRegistrationConfirmation(any(Event.class), any(User.class));
+        EmailOutbox mail = pending();
+
+        emailOutboxService.pollOutbox();
+        EmailOutbox retrying = awaitStatus(mail, status -> status == EmailOutbox.Status.PENDING, 1);
+
+        assertThat(retrying.getLastError()).isEqualTo("SMTP down");
+        // First retry waits the base delay (30s by default)
+        assertThat(retrying.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+        assertThat(emailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, 10))).isEmpty();
+
+        // Last allowed attempt
+        retrying.setAttempts(4);
+        retrying.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        emailOutboxRepository.save(retrying);
+        emailOutboxService.pollOutbox();
+
+        EmailOutbox failed = awaitStatus(mail, status -> status == EmailOutbox.Status.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(5);
+        assertThat(emailOutboxService.getStats()).containsEntry("failed", 1L).containsEntry("retried", 1L);
+    }
+
+    private EmailOutbox pending() {
+        return emailOutboxRepository.save(
+                new EmailOutbox(EmailOutbox.EmailType.EVENT_REGISTRATION, event.getId(), user.getId()));
+    }
+
+    private EmailOutbox reload(EmailOutbox mail) {
+        return emailOutboxRepository.findById(mail.getId()).orElseThrow();
+    }
+
+    private EmailOutbox awaitStatus(EmailOutbox mail, Predicate<EmailOutbox.Status> done) throws InterruptedException {
+        return awaitStatus(mail, done, 0);
+    }
+
+    // Waits for the mail executor to finish with the row; minAttempts tells PENDING-after-retry from never tried
+    private EmailOutbox awaitStatus(EmailOutbox mail, Predicate<EmailOutbox.Status> done, int minAttempts)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            EmailOutbox current = reload(mail);
+            if (done.test(current.getStatus()) && current.getAttempts() >= minAttempts) {
+                return current;
+            }
+            assertThat(System.currentTimeMillis()).as("mail %d still %s", mail.getId(), current.getStatus())
+                    .isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package CareerVision.service;
+
+import CareerVision.dto.BroadcastResult;
+import CareerVision.model.Event;
+import CareerVision.model.User;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailServiceBroadcastTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private RecordingMailSender mailSender;
+    private EmailService emailService;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new RecordingMailSender();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "emailSender", mailSender);
+        ReflectionTestUtils.setField(emailService, "templateService", new EmailTemplateService(engine()));
+        ReflectionTestUtils.setField(emailService, "bulkBatchSize", 2);
+        ReflectionTestUtils.setField(emailService, "bulkMaxPerSecond", 0);
+
+        event = new Event();
+        event.setId(1L);
+        event.setTitle("Career Fair");
+        event.setLocation("Colombo");
+        event.setEventDate(LocalDateTime.of(2026, 11, 3, 18, 30));
+    }
+
+    @Test
+    void sendsInBatchesWithEachRecipientsOwnName() throws Exception {
+        List<User> recipients = List.of(
+                user("Ada", "ada@example.com"),
+                user("Grace", "grace@example.com"),
+                user("Alan", ""),
+                user("Edsger", "edsger@example.com"),
+                user(null, "anon@example.com"),
+                user("Barbara", "barbara@example.com"));
+
+        BroadcastResult result = emailService.sendEventBroadcast(event, recipients, "Room change",
+                "Dear __CV_SLOT_recipientName__, we moved to room 4B.");
+
+        assertThat(result.getRecipients()).isEqualTo(6);
+        assertThat(result.getSent()).isEqualTo(5);
+        assertThat(result.getFailed()).isEqualTo(1);
+        // One send call, and so one SMTP connection, per batch of two
+        assertThat(mailSender.batchSizes).containsExactly(2, 2, 1);
+
+        Map<String, String> bodies = receivedBodies();
+        assertThat(bodies.keySet()).containsExactlyInAnyOrder("ada@example.com", "grace@example.com",
+                "edsger@example.com", "anon@example.com", "barbara@example.com");
+        assertThat(bodies.get("ada@example.com")).contains("Ada").doesNotContain("Grace");
+        assertThat(bodies.get("anon@example.com")).contains("there");
+        assertThat(bodies.values()).allSatisfy(body ->
+                assertThat(body).contains("Dear __CV_SLOT_recipientName__, we moved to room 4B."));
+    }
+
+    @Test
+    void countsMessagesTheServerRejectedWithinABatch() {
+        mailSender.rejectedRecipients = Set.of("grace@example.com");
+
+        BroadcastResult result = emailService.sendEventBroadcast(event, List.of(
+                user("Ada", "ada@example.com"),
+                user("Grace", "grace@example.com"),
+                user("Edsger", "edsger@example.com")), "Update", "See you there");
+
+        assertThat(result.getSent()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    void countsWholeBatchWhenTheServerGoesAway() {
+        mailSender.stopServerAfterBatches = 1;
+
+        BroadcastResult result = emailService.sendEventBroadcast(event, List.of(
+                user("Ada", "ada@example.com"),
+                user("Grace", "grace@example.com"),
+                user("Edsger", "edsger@example.com"),
+                user("Barbara", "barbara@example.com"),
+                user("Alan", "alan@example.com")), "Update", "See you there");
+
+        assertThat(result.getSent()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+    }
+
+    @Test
+    void fullBatchesArePacedToTheConfiguredRate() {
+        ReflectionTestUtils.setField(emailService, "bulkMaxPerSecond", 10);
+
+        BroadcastResult result = emailService.sendEventBroadcast(event, List.of(
+                user("Ada", "ada@example.com"),
+                user("Grace", "grace@example.com"),
+                user("Edsger", "edsger@example.com"),
+                user("Barbara", "barbara@example.com"),
+                user("Alan", "alan@example.com")), "Update", "See you there");
+
+        // Two full batches of two at 10 per second take at least 200 ms each; the last batch is not paced
+        assertThat(result.getSent()).isEqualTo(5);
+        assertThat(result.getElapsedMs()).isGreaterThanOrEqualTo(400);
+    }
+
+    private Map<String, String> receivedBodies() throws MessagingException {
+        Map<String, String> bodies = new HashMap<>();
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            bodies.put(message.getRecipients(Message.RecipientType.TO)[0].toString(), GreenMailUtil.getBody(message));
+        }
+        return bodies;
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static SpringTemplateEngine engine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    /**
+     * Records each batch handed to the SMTP transport. GreenMail accepts any
+     * recipient, so per-recipient rejections are simulated the way
+     * JavaMailSenderImpl reports them: the rest of the batch is sent and the
+     * rejected messages come back in MailSendException#getFailedMessages.
+     */
+    private static class RecordingMailSender extends JavaMailSenderImpl {
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private Set<String> rejectedRecipients = Set.of();
+        private int stopServerAfterBatches = -1;
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            if (batchSizes.size() == stopServerAfterBatches) {
+                greenMail.stop();
+            }
+            batchSizes.add(mimeMessages.length);
+
+            Map<Object, Exception> rejected = new LinkedHashMap<>();
+            List<MimeMessage> accepted = new ArrayList<>();
+            for (MimeMessage message : mimeMessages) {
+                if (rejectedRecipients.contains(firstRecipient(message))) {
+                    rejected.put(message, new MessagingException("550 mailbox unavailable"));
+                } else {
+                    accepted.add(message);
+                }
+            }
+            if (!accepted.isEmpty()) {
+                super.doSend(accepted.toArray(new MimeMessage[0]), null);
+            }
+            if (!rejected.isEmpty()) {
+                throw new MailSendException(rejected);
+            }
+        }
+
+        private static String firstRecipient(MimeMessage message) {
+            try {
+                return Arrays.stream(message.getAllRecipients()).findFirst().map(Object::toString).orElse("");
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
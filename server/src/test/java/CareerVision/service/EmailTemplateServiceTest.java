@@ -0,0 +1,85 @@
+package CareerVision.service;
+
+import CareerVision.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateServiceTest {
+
+    private EmailTemplateService templateService;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        templateService = new EmailTemplateService(engine());
+
+        event = new Event();
+        event.setTitle("Spring Boot Career Workshop");
+        event.setLocation("Colombo");
+        event.setEventDate(LocalDateTime.of(2026, 11, 3, 18, 30));
+    }
+
+    @Test
+    void preparedFillMatchesFullRender() {
+        EmailTemplateService.PreparedTemplate prepared =
+                templateService.prepare("emails/event-broadcast", broadcastVariables("Room change"), "recipientName");
+
+        Map<String, Object> variables = new HashMap<>(broadcastVariables("Room change"));
+        variables.put("recipientName", "Ada <Dev> & Co");
+
+        assertThat(prepared.fill(Map.of("recipientName", "Ada <Dev> & Co")))
+                .isEqualTo(templateService.render("emails/event-broadcast", variables))
+                .contains("Ada &lt;Dev&gt; &amp; Co");
+    }
+
+    @Test
+    void placeholderSpelledOutInAnotherVariableStaysLiteral() {
+        String message = "Hello __CV_SLOT_recipientName__!";
+        EmailTemplateService.PreparedTemplate prepared =
+                templateService.prepare("emails/event-broadcast", broadcastVariables(message), "recipientName");
+
+        String html = prepared.fill(Map.of("recipientName", "Grace"));
+
+        assertThat(html).contains("Hello __CV_SLOT_recipientName__!");
+        assertThat(html).containsOnlyOnce("Grace");
+    }
+
+    @Test
+    void unfilledSlotsComeOutEmpty() {
+        EmailTemplateService.PreparedTemplate first =
+                templateService.prepare("emails/event-broadcast", broadcastVariables("a"), "recipientName");
+        EmailTemplateService.PreparedTemplate second =
+                templateService.prepare("emails/event-broadcast", broadcastVariables("a"), "recipientName");
+
+        assertThat(first.fill(Map.of())).doesNotContain("__CV_SLOT_").isEqualTo(second.fill(Map.of()));
+    }
+
+    private Map<String, Object> broadcastVariables(String message) {
+        return Map.of(
+                "event", event,
+                "message", message,
+                "formattedDate", EmailTemplateService.formatEventDate(event.getEventDate()));
+    }
+
+    // Same resolver settings as spring.thymeleaf.* in application.properties
+    private static SpringTemplateEngine engine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
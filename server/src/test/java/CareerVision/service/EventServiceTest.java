@@ -0,0 +1,94 @@
+package CareerVision.service;
+
+import CareerVision.model.EmailOutbox;
+import CareerVision.model.Event;
+import CareerVision.model.Participant;
+import CareerVision.model.User;
+import CareerVision.repository.EventRepository;
+import CareerVision.repository.ParticipantRepository;
+import CareerVision.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventServiceTest {
+
+    private ParticipantRepository participantRepository;
+    private EventRepository eventRepository;
+    private UserRepository userRepository;
+    private EmailOutboxService emailOutboxService;
+    private ParticipantCounterService counters;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository = mock(ParticipantRepository.class);
+        eventRepository = mock(EventRepository.class);
+        userRepository = mock(UserRepository.class);
+        emailOutboxService = mock(EmailOutboxService.class);
+        counters = mock(ParticipantCounterService.class);
+
+        eventService = new EventService();
+        ReflectionTestUtils.setField(eventService, "participantRepository", participantRepository);
+        ReflectionTestUtils.setField(eventService, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(eventService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(eventService, "emailOutboxService", emailOutboxService);
+        ReflectionTestUtils.setField(eventService, "participantCounterService", counters);
+    }
+
+    @Test
+    void cancellationIsCountedWhenThisCallCancelled() {
+        when(participantRepository.cancel(1L, 2L)).thenReturn(1);
+
+        eventService.cancelEventRegistration(1L, 2L);
+
+        verify(counters).recordCancellation(1L);
+        verify(emailOutboxService).enqueue(EmailOutbox.EmailType.EVENT_CANCELLATION, 1L, 2L);
+    }
+
+    @Test
+    void alreadyCancelledRegistrationIsNotCountedAgain() {
+        when(participantRepository.cancel(1L, 2L)).thenReturn(0);
+        when(participantRepository.findByEventIdAndUserId(1L, 2L)).thenReturn(Optional.of(new Participant()));
+
+        eventService.cancelEventRegistration(1L, 2L);
+
+        verify(counters, never()).recordCancellation(anyLong());
+        verify(emailOutboxService, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void cancellingAMissingRegistrationFails() {
+        when(participantRepository.cancel(1L, 2L)).thenReturn(0);
+        when(participantRepository.findByEventIdAndUserId(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.cancelEventRegistration(1L, 2L))
+                .hasMessage("Registration not found");
+        verify(counters, never()).recordCancellation(anyLong());
+    }
+
+    @Test
+    void concurrentDuplicateRegistrationIsRejectedWithoutCounting() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(new Event()));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(new User()));
+        when(participantRepository.findByEventIdAndUserId(1L, 2L)).thenReturn(Optional.empty());
+        when(participantRepository.saveAndFlush(any(Participant.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_event_participants_user_event"));
+
+        assertThatThrownBy(() -> eventService.registerForEvent(1L, 2L))
+                .hasMessage("User already registered for this event");
+        verify(counters, never()).recordRegistration(anyLong());
+        verify(emailOutboxService, never()).enqueue(any(), any(), any());
+    }
+}
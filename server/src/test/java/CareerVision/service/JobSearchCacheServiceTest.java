@@ -0,0 +1,45 @@
+package CareerVision.service;
+
+import CareerVision.dto.JobDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobSearchCacheServiceTest {
+
+    private JobSearchService jobSearchService;
+    private JobSearchCacheService cache;
+
+    @BeforeEach
+    void setUp() {
+        jobSearchService = mock(JobSearchService.class);
+        cache = new JobSearchCacheService(600, 100);
+        ReflectionTestUtils.setField(cache, "jobSearchService", jobSearchService);
+    }
+
+    @Test
+    void failedFetchIsNotCached() {
+        JobDTO job = new JobDTO();
+        job.setTitle("Java Developer");
+        when(jobSearchService.searchJobs("java", "austin", 1))
+                .thenThrow(new ResourceAccessException("Adzuna response ended early after 3 results"))
+                .thenReturn(List.of(job));
+
+        assertThatThrownBy(() -> cache.search("Java", "Austin", 1)).isInstanceOf(ResourceAccessException.class);
+        assertThat(cache.search("Java", "Austin", 1)).containsExactly(job);
+        assertThat(cache.search(" java ", "AUSTIN", 1)).containsExactly(job);
+
+        verify(jobSearchService, times(2)).searchJobs("java", "austin", 1);
+        assertThat(cache.getStats()).containsEntry("upstreamErrors", 1L).containsEntry("hits", 1L);
+    }
+}
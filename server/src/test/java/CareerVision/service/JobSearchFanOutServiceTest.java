@@ -0,0 +1,69 @@
+package CareerVision.service;
+
+import CareerVision.dto.JobDTO;
+import CareerVision.dto.JobSearchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchFanOutServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private JobSearchCacheService cache;
+    private JobSearchFanOutService fanOut;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(JobSearchCacheService.class);
+        fanOut = new JobSearchFanOutService(4, 16, 5, 100, 300);
+        ReflectionTestUtils.setField(fanOut, "jobSearchCacheService", cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        fanOut.shutdown();
+    }
+
+    @Test
+    void clientTimeoutIsCappedAtTheConfiguredMaximum() {
+        assertThat(fanOut.effectiveDeadlineMs(null)).isEqualTo(100);
+        assertThat(fanOut.effectiveDeadlineMs(0L)).isEqualTo(100);
+        assertThat(fanOut.effectiveDeadlineMs(250L)).isEqualTo(250);
+        assertThat(fanOut.effectiveDeadlineMs(Long.MAX_VALUE)).isEqualTo(300);
+    }
+
+    @Test
+    void hugeTimeoutStillReturnsPartialResultsAtTheCap() {
+        when(cache.search(anyString(), anyString(), eq(1))).thenReturn(List.of(job("https://x/1")));
+        when(cache.search(anyString(), anyString(), eq(2))).thenAnswer(invocation -> {
+            release.await();
+            return List.of(job("https://x/2"));
+        });
+
+        long start = System.currentTimeMillis();
+        JobSearchResult result = fanOut.searchPages("java", "austin", 2, Long.MAX_VALUE);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertThat(elapsed).isLessThan(2000);
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getPagesReturned()).isEqualTo(1);
+        assertThat(result.getJobs()).extracting(JobDTO::getRedirectUrl).containsExactly("https://x/1");
+    }
+
+    private static JobDTO job(String redirectUrl) {
+        JobDTO job = new JobDTO();
+        job.setRedirectUrl(redirectUrl);
+        return job;
+    }
+}
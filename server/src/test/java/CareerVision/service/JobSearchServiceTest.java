@@ -0,0 +1,87 @@
+package CareerVision.service;
+
+import CareerVision.config.OutboundHttpClients;
+import CareerVision.dto.JobDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class JobSearchServiceTest {
+
+    private JobSearchService jobSearchService;
+
+    @BeforeEach
+    void setUp() {
+        jobSearchService = new JobSearchService(mock(OutboundHttpClients.class));
+        ReflectionTestUtils.setField(jobSearchService, "resultsPerPage", 10);
+    }
+
+    @Test
+    void reservedCharactersInSearchTermsAreEncoded() {
+        URI uri = jobSearchService.searchUri("c++ & c#", "New York, NY", 2);
+
+        assertThat(uri.getRawPath()).isEqualTo("/v1/api/jobs/us/search/2");
+        assertThat(uri.getRawQuery())
+                .contains("what=c%2B%2B%20%26%20c%23")
+                .contains("where=New%20York%2C%20NY")
+                .contains("results_per_page=10");
+    }
+
+    @Test
+    void searchTermsDecodeBackToTheOriginalText() {
+        URI uri = jobSearchService.searchUri("c++ & c#", "a=b+c", 1);
+
+        Map<String, String> query = UriComponentsBuilder.fromUri(uri).build(true)
+                .getQueryParams().toSingleValueMap();
+        assertThat(URLDecoder.decode(query.get("what"), StandardCharsets.UTF_8))
+                .isEqualTo("c++ & c#");
+        assertThat(URLDecoder.decode(query.get("where"), StandardCharsets.UTF_8))
+                .isEqualTo("a=b+c");
+    }
+
+    @Test
+    void parsesResultsAndSkipsOtherFields() throws IOException {
+        String body = "{\"count\": 2, \"results\": ["
+                + "{\"title\": \"Java Developer\", \"company\": {\"display_name\": \"Acme\"},"
+                + " \"location\": {\"display_name\": \"Austin\", \"area\": [\"US\"]},"
+                + " \"category\": {\"label\": \"IT Jobs\"}, \"redirect_url\": \"https://x/1\", \"salary_min\": 1},"
+                + "{\"title\": \"Site Engineer\", \"redirect_url\": \"https://x/2\"}"
+                + "], \"mean\": 100}";
+
+        List<JobDTO> jobs = jobSearchService.parseResults(stream(body));
+
+        assertThat(jobs).extracting(JobDTO::getTitle).containsExactly("Java Developer", "Site Engineer");
+        assertThat(jobs.get(0).getCompany()).isEqualTo("Acme");
+        assertThat(jobs.get(0).getLocation()).isEqualTo("Austin");
+        assertThat(jobs.get(0).getCategory()).isEqualTo("IT Jobs");
+    }
+
+    @Test
+    void truncatedBodyIsAnErrorNotAShortPage() {
+        String complete = "{\"results\": [{\"title\": \"A\"}, {\"title\": \"B\"}]}";
+
+        for (int cut = complete.indexOf('[') + 1; cut < complete.length(); cut++) {
+            String truncated = complete.substring(0, cut);
+            assertThatThrownBy(() -> jobSearchService.parseResults(stream(truncated)))
+                    .as("body cut to '%s'", truncated)
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+package CareerVision.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmResponseCacheTest {
+
+    private final LlmResponseCache cache = new LlmResponseCache(3600, 3, 6, 0.8);
+
+    @Test
+    void rewordedPromptHitsWithinItsScope() {
+        cache.put("chat", "How do I prepare for an interview at a startup?", "Research the product.");
+
+        assertThat(cache.lookup("chat", "how to prepare for interviews at startups"))
+                .contains("Research the product.");
+        assertThat(cache.lookup("roadmap", "how to prepare for interviews at startups")).isEmpty();
+        assertThat(cache.getStats()).containsEntry("exactHits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void differentWordOrderIsNotAnExactHit() {
+        cache.put("chat", "Should I learn Java before Python?", "Start with Python.");
+
+        cache.lookup("chat", "Should I learn Python before Java?");
+
+        assertThat(cache.getStats()).containsEntry("exactHits", 0L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAcrossScopes() {
+        cache.put("a", "resume tips", "1");
+        cache.put("b", "salary negotiation", "2");
+        cache.put("c", "portfolio website", "3");
+        cache.lookup("a", "resume tips");
+
+        cache.put("d", "career switch", "4");
+
+        assertThat(cache.lookup("b", "salary negotiation")).isEmpty();
+        assertThat(cache.lookup("a", "resume tips")).contains("1");
+        assertThat(cache.getStats()).containsEntry("entries", 3);
+    }
+
+    @Test
+    void expiredEntriesAreDropped() {
+        LlmResponseCache expiring = new LlmResponseCache(-1, 10, 6, 0.8);
+        expiring.put("chat", "resume tips", "old");
+        expiring.put("chat", "cover letter tips", "old");
+
+        assertThat(expiring.lookup("chat", "resume tips")).isEmpty();
+        assertThat(expiring.getStats()).containsEntry("entries", 0).containsEntry("expired", 2L);
+    }
+}
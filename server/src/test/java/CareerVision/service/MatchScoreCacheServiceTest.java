@@ -0,0 +1,105 @@
+package CareerVision.service;
+
+import CareerVision.model.CVData;
+import CareerVision.model.Company;
+import CareerVision.model.Job;
+import CareerVision.model.MatchScoreCache;
+import CareerVision.repository.MatchScoreCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchScoreCacheServiceTest {
+
+    private MatchScoreCacheRepository repository;
+    private MatchScoreCacheService cache;
+    private Job job;
+    private CVData cvData;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MatchScoreCacheRepository.class);
+        when(repository.findByJobIdAndJobHashAndCvHash(anyLong(), anyString(), anyString()))
+                .thenReturn(Optional.empty());
+        cache = new MatchScoreCacheService(100);
+        ReflectionTestUtils.setField(cache, "matchScoreCacheRepository", repository);
+
+        job = new Job();
+        job.setId(7L);
+        job.setTitle("Backend Engineer");
+        job.setLocation("Colombo");
+        cvData = new CVData();
+        cvData.setExtractedText("Java, Spring Boot");
+    }
+
+    @Test
+    void missingScoreIsReturnedButNeverCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        OptionalDouble first = cache.getOrCompute(job, cvData, () -> {
+            calls.incrementAndGet();
+            return OptionalDouble.empty();
+        });
+        OptionalDouble second = cache.getOrCompute(job, cvData, () -> {
+            calls.incrementAndGet();
+            return OptionalDouble.of(81.0);
+        });
+
+        assertThat(first).isEmpty();
+        assertThat(second).hasValue(81.0);
+        assertThat(calls).hasValue(2);
+        verify(repository, times(1)).save(any(MatchScoreCache.class));
+    }
+
+    @Test
+    void scoreIsServedFromMemoryAfterFirstCall() {
+        cache.getOrCompute(job, cvData, () -> OptionalDouble.of(64.0));
+
+        OptionalDouble again = cache.getOrCompute(job, cvData, () -> {
+            throw new AssertionError("matcher should not be called");
+        });
+
+        assertThat(again).hasValue(64.0);
+        assertThat(cache.getStats()).containsEntry("memoryHits", 1L);
+    }
+
+    @Test
+    void jobHashCoversCompanyAndLocation() {
+        String original = MatchScoreCacheService.jobContentHash(job);
+
+        job.setLocation("Kandy");
+        String moved = MatchScoreCacheService.jobContentHash(job);
+
+        Company company = new Company();
+        company.setName("Acme");
+        job.setCompany(company);
+        String withCompany = MatchScoreCacheService.jobContentHash(job);
+        company.setOverview("Now remote-first");
+        String companyEdited = MatchScoreCacheService.jobContentHash(job);
+
+        assertThat(moved).isNotEqualTo(original);
+        assertThat(withCompany).isNotEqualTo(moved);
+        assertThat(companyEdited).isNotEqualTo(withCompany);
+    }
+
+    @Test
+    void failedMatcherCallDoesNotTouchTheStore() {
+        cache.getOrCompute(job, cvData, OptionalDouble::empty);
+
+        verify(repository, never()).save(any(MatchScoreCache.class));
+    }
+}
@@ -0,0 +1,107 @@
+package CareerVision.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelPDFExtractorServiceTest {
+
+    private final List<ParallelPDFExtractorService> extractors = new ArrayList<>();
+
+    @AfterEach
+    void shutDownPools() {
+        extractors.forEach(ParallelPDFExtractorService::shutdown);
+    }
+
+    @Test
+    void parallelOutputMatchesSerialOutput() throws IOException {
+        PDFExtractorService serial = serialExtractor(50, 1_000_000);
+        ParallelPDFExtractorService parallel = parallelExtractor(serial, 4, 1, 2);
+        byte[] pdf = generatePdf(13);
+
+        String expected = serial.extractText(pdf);
+
+        assertThat(expected).contains("Page 1 line 0").contains("Page 13 line 9");
+        assertThat(parallel.extractText(pdf)).isEqualTo(expected);
+    }
+
+    @Test
+    void parallelOutputMatchesSerialOutputUnderPageAndCharacterCaps() throws IOException {
+        byte[] pdf = generatePdf(20);
+
+        PDFExtractorService pageCapped = serialExtractor(7, 1_000_000);
+        assertThat(parallelExtractor(pageCapped, 3, 1, 2).extractText(pdf))
+                .isEqualTo(pageCapped.extractText(pdf))
+                .doesNotContain("Page 8 line");
+
+        PDFExtractorService charCapped = serialExtractor(50, 1500);
+        String capped = parallelExtractor(charCapped, 3, 1, 2).extractText(pdf);
+        assertThat(capped).hasSize(1500).isEqualTo(charCapped.extractText(pdf));
+    }
+
+    @Test
+    void shortDocumentsAreStrippedSerially() throws IOException {
+        PDFExtractorService serial = serialExtractor(50, 1_000_000);
+        byte[] pdf = generatePdf(3);
+
+        assertThat(parallelExtractor(serial, 2, 8, 2).extractText(pdf)).isEqualTo(serial.extractText(pdf));
+    }
+
+    @Test
+    void emptyDocumentYieldsEmptyTextEvenWithZeroMinPages() throws IOException {
+        PDFExtractorService serial = serialExtractor(50, 1_000_000);
+
+        assertThat(parallelExtractor(serial, 2, 0, 2).extractText(generatePdf(0))).isEmpty();
+    }
+
+    private ParallelPDFExtractorService parallelExtractor(PDFExtractorService serial, int parallelism,
+                                                          int minPages, int pagesPerTask) {
+        ParallelPDFExtractorService extractor =
+                new ParallelPDFExtractorService(serial, parallelism, minPages, pagesPerTask);
+        extractors.add(extractor);
+        return extractor;
+    }
+
+    static PDFExtractorService serialExtractor(int maxPages, int maxChars) {
+        PDFExtractorService extractor = new PDFExtractorService();
+        ReflectionTestUtils.setField(extractor, "maxMainMemoryBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(extractor, "tempDir", "");
+        ReflectionTestUtils.setField(extractor, "maxPages", maxPages);
+        ReflectionTestUtils.setField(extractor, "maxChars", maxChars);
+        return extractor;
+    }
+
+    static byte[] generatePdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int p = 0; p < pages; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(12);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 10; line++) {
+                        content.showText("Page " + (p + 1) + " line " + line + ": Java, Spring Boot, PostgreSQL");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package CareerVision.service;
+
+import CareerVision.dto.EventSummary;
+import CareerVision.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// No transaction is active here, so record* applies its delta immediately
+class ParticipantCounterServiceTest {
+
+    private EventRepository eventRepository;
+    private ParticipantCounterService counters;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        counters = new ParticipantCounterService();
+        ReflectionTestUtils.setField(counters, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(counters, "reconcileEnabled", true);
+    }
+
+    @Test
+    void flushWritesEachEventsDeltaOnceAndResetsIt() {
+        counters.recordRegistration(1L);
+        counters.recordRegistration(1L);
+        counters.recordCancellation(1L);
+        counters.recordRegistration(2L);
+        assertThat(counters.registeredCount(1L, 10)).isEqualTo(11);
+
+        counters.flush();
+        counters.flush();
+
+        verify(eventRepository, times(1)).addParticipantCounts(1L, 1L, 1L);
+        verify(eventRepository, times(1)).addParticipantCounts(2L, 1L, 0L);
+        assertThat(counters.registeredCount(1L, 11)).isEqualTo(11);
+        assertThat(counters.getStats()).containsEntry("flushes", 1L).containsEntry("rowsFlushed", 2L);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForTheNextFlush() {
+        when(eventRepository.addParticipantCounts(eq(1L), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(1);
+        counters.recordRegistration(1L);
+        counters.recordRegistration(1L);
+
+        counters.flush();
+        assertThat(counters.registeredCount(1L, 5)).isEqualTo(7);
+        counters.recordRegistration(1L);
+        counters.flush();
+
+        verify(eventRepository).addParticipantCounts(1L, 2L, 0L);
+        verify(eventRepository).addParticipantCounts(1L, 3L, 0L);
+        assertThat(counters.registeredCount(1L, 8)).isEqualTo(8);
+        assertThat(counters.getStats()).containsEntry("flushFailures", 1L);
+    }
+
+    @Test
+    void applyPendingAddsDeltasToSummaries() {
+        counters.recordRegistration(1L);
+        EventSummary summary = new EventSummary();
+        summary.setId(1L);
+        summary.setParticipantCount(4);
+
+        counters.applyPending(List.of(summary));
+
+        assertThat(summary.getParticipantCount()).isEqualTo(5);
+    }
+
+    @Test
+    void reconcileFlushesPendingDeltasBeforeRecounting() {
+        counters.recordRegistration(3L);
+
+        counters.reconcile();
+
+        InOrder order = inOrder(eventRepository);
+        order.verify(eventRepository).addParticipantCounts(3L, 1L, 0L);
+        order.verify(eventRepository).reconcileParticipantCounts();
+        assertThat(counters.registeredCount(3L, 0)).isZero();
+        assertThat(counters.getStats()).containsEntry("reconciles", 1L);
+    }
+
+    @Test
+    void reconcileDoesNothingWhenDisabled() {
+        ReflectionTestUtils.setField(counters, "reconcileEnabled", false);
+        counters.recordRegistration(3L);
+
+        counters.reconcile();
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void failedReconcileIsNotCounted() {
+        when(eventRepository.reconcileParticipantCounts()).thenThrow(new IllegalStateException("timeout"));
+
+        counters.reconcile();
+
+        verify(eventRepository, never()).addParticipantCounts(anyLong(), anyLong(), anyLong());
+        assertThat(counters.getStats()).containsEntry("reconciles", 0L);
+    }
+
+    @Test
+    void reconcileDropsDeltasRecordedBetweenFlushAndRecount() {
+        counters.recordRegistration(3L);
+        // A registration commits while the flush is writing: the recount already includes it
+        when(eventRepository.addParticipantCounts(3L, 1L, 0L)).thenAnswer(invocation -> {
+            counters.recordRegistration(3L);
+            return 1;
+        });
+
+        counters.reconcile();
+        counters.flush();
+
+        verify(eventRepository, times(1)).addParticipantCounts(anyLong(), anyLong(), anyLong());
+        assertThat(counters.registeredCount(3L, 2)).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileKeepsDeltasRecordedAfterTheRecountStarts() {
+        // Commits after the recount's snapshot are not in it, so their delta must still be flushed
+        when(eventRepository.reconcileParticipantCounts()).thenAnswer(invocation -> {
+            counters.recordRegistration(3L);
+            return 1;
+        });
+
+        counters.reconcile();
+        counters.flush();
+
+        verify(eventRepository).addParticipantCounts(3L, 1L, 0L);
+    }
+
+    @Test
+    void failedReconcileRestoresTheDeltasItTookOut() {
+        counters.recordRegistration(3L);
+        when(eventRepository.addParticipantCounts(3L, 1L, 0L)).thenAnswer(invocation -> {
+            counters.recordCancellation(3L);
+            return 1;
+        });
+        when(eventRepository.reconcileParticipantCounts()).thenThrow(new IllegalStateException("timeout"));
+
+        counters.reconcile();
+        counters.flush();
+
+        verify(eventRepository).addParticipantCounts(3L, -1L, 1L);
+    }
+}
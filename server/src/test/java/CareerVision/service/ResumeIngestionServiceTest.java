@@ -0,0 +1,91 @@
+package CareerVision.service;
+
+import CareerVision.model.CVData;
+import CareerVision.model.User;
+import CareerVision.repository.CVDataRepository;
+import CareerVision.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResumeIngestionServiceTest {
+
+    private static final byte[] PDF = {1, 2, 3};
+
+    private CVDataRepository cvDataRepository;
+    private ResumeTextCacheService resumeTextCacheService;
+    private MatchScoreCacheService matchScoreCacheService;
+    private ResumeIngestionService ingestionService;
+    private User user;
+    private CVData stored;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cvDataRepository = mock(CVDataRepository.class);
+        resumeTextCacheService = mock(ResumeTextCacheService.class);
+        matchScoreCacheService = mock(MatchScoreCacheService.class);
+        SupabaseStorageService storage = mock(SupabaseStorageService.class);
+        when(storage.uploadFile(any(), anyString(), anyString())).thenReturn("https://storage/resume.pdf");
+
+        ingestionService = new ResumeIngestionService();
+        ReflectionTestUtils.setField(ingestionService, "userRepository", mock(UserRepository.class));
+        ReflectionTestUtils.setField(ingestionService, "cvDataRepository", cvDataRepository);
+        ReflectionTestUtils.setField(ingestionService, "resumeTextCacheService", resumeTextCacheService);
+        ReflectionTestUtils.setField(ingestionService, "matchScoreCacheService", matchScoreCacheService);
+        ReflectionTestUtils.setField(ingestionService, "supabaseStorageService", storage);
+
+        user = new User();
+        user.setId(1L);
+        stored = new CVData();
+        stored.setUser(user);
+        stored.setExtractedText("Java");
+        stored.setContentHash("key-pages-10");
+        when(cvDataRepository.findByUser(user)).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void reuploadUnderNewExtractionCapsReplacesTheStoredText() throws Exception {
+        String pdfHash = ResumeTextCacheService.sha256(PDF);
+        when(resumeTextCacheService.getOrExtract(pdfHash, PDF)).thenReturn("Java, Spring Boot");
+        when(resumeTextCacheService.cacheKey(pdfHash)).thenReturn("key-pages-50");
+
+        ingestionService.ingest(user, PDF, "application/pdf", "resume.pdf", stage -> { });
+
+        ArgumentCaptor<CVData> saved = ArgumentCaptor.forClass(CVData.class);
+        verify(cvDataRepository).save(saved.capture());
+        assertThat(saved.getValue().getExtractedText()).isEqualTo("Java, Spring Boot");
+        assertThat(saved.getValue().getContentHash()).isEqualTo("key-pages-50");
+        verify(matchScoreCacheService).evictResume("Java");
+    }
+
+    @Test
+    void identicalReuploadSkipsTheWrite() throws Exception {
+        String pdfHash = ResumeTextCacheService.sha256(PDF);
+        when(resumeTextCacheService.getOrExtract(pdfHash, PDF)).thenReturn("Java");
+        when(resumeTextCacheService.cacheKey(pdfHash)).thenReturn("key-pages-10");
+
+        ingestionService.ingest(user, PDF, "application/pdf", "resume.pdf", stage -> { });
+
+        verify(cvDataRepository, never()).save(any(CVData.class));
+        verify(matchScoreCacheService, never()).evictResume(anyString());
+    }
+
+    @Test
+    void sameKeyWithDifferentTextIsStillWritten() {
+        ingestionService.saveCVData(user, "Java, Kotlin", "key-pages-10");
+
+        verify(cvDataRepository).save(stored);
+        assertThat(stored.getExtractedText()).isEqualTo("Java, Kotlin");
+    }
+}
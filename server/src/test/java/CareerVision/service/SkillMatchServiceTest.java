@@ -0,0 +1,43 @@
+package CareerVision.service;
+
+import CareerVision.dto.SkillMatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatchServiceTest {
+
+    private final SkillMatchService skillMatchService = new SkillMatchService();
+
+    @Test
+    void skillsEndingInSAreNotTruncated() {
+        SkillMatchResult result = skillMatchService.match(
+                List.of("Sass", "Express", "Kubernetes"),
+                "Statistics with SAS, an expres delivery job and kubernete typos");
+
+        assertThat(result.getMatchedSkills()).isEmpty();
+        assertThat(result.getSkillMatchPercentage()).isZero();
+    }
+
+    @Test
+    void skillsEndingInSMatchLiterally() {
+        SkillMatchResult result = skillMatchService.match(
+                List.of("Sass", "Express", "Kubernetes"),
+                "Styled with Sass, built APIs on Express and deployed to Kubernetes");
+
+        assertThat(result.getMatchedSkills()).containsExactly("sass", "express", "kubernetes");
+        assertThat(result.getSkillMatchPercentage()).isEqualTo(100.0);
+    }
+
+    @Test
+    void pluralFormsComeFromTheDictionary() {
+        SkillMatchResult result = skillMatchService.match(
+                List.of("Microcontrollers", "Embedded Systems", "Docker"),
+                "Wrote firmware for a microcontroller in an embedded system");
+
+        assertThat(result.getMatchedSkills()).containsExactly("microcontrollers", "embedded systems");
+        assertThat(result.getMissingSkills()).containsExactly("docker");
+    }
+}
@@ -0,0 +1,58 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedExecutorsTest {
+
+    @Test
+    void rejectsOnceThreadsAndQueueAreFull() throws InterruptedException {
+        ThreadPoolExecutor executor = BoundedExecutors.newBoundedPool("test-pool", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void threadsAreNamedDaemons() throws InterruptedException {
+        ThreadPoolExecutor executor = BoundedExecutors.newBoundedPool("test-pool", 1, 1);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            worker.set(Thread.currentThread());
+            ran.countDown();
+        });
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(worker.get().getName()).isEqualTo("test-pool-1");
+        assertThat(worker.get().isDaemon()).isTrue();
+        assertThat(executor.allowsCoreThreadTimeOut()).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoDistanceTest {
+
+    @Test
+    void knownDistances() {
+        // London to Paris and Colombo to Kandy
+        assertThat(GeoDistance.haversineKm(51.5074, -0.1278, 48.8566, 2.3522)).isCloseTo(343.6, within(0.5));
+        assertThat(GeoDistance.haversineKm(6.9271, 79.8612, 7.2906, 80.6337)).isCloseTo(94.2, within(0.5));
+        assertThat(GeoDistance.haversineKm(10, 20, 10, 20)).isZero();
+        // Half the circumference between antipodes
+        assertThat(GeoDistance.haversineKm(0, 0, 0, 180)).isCloseTo(Math.PI * GeoDistance.EARTH_RADIUS_KM, within(1e-6));
+    }
+
+    @Test
+    void arrayKernelsMatchTheScalarFormula() {
+        double[] lats = {48.8566, -33.8688, 6.9271};
+        double[] lons = {2.3522, 151.2093, 79.8612};
+        double[] fromOrigin = new double[3];
+        double[] pairwise = new double[3];
+
+        GeoDistance.haversineKm(51.5074, -0.1278, lats, lons, fromOrigin, 3);
+        GeoDistance.haversineKm(new double[]{51.5074, 51.5074, 51.5074}, new double[]{-0.1278, -0.1278, -0.1278},
+                lats, lons, pairwise, 3);
+
+        for (int i = 0; i < 3; i++) {
+            double expected = GeoDistance.haversineKm(51.5074, -0.1278, lats[i], lons[i]);
+            assertThat(fromOrigin[i]).isCloseTo(expected, within(1e-9));
+            assertThat(pairwise[i]).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    void missingCoordinateYieldsNaN() {
+        double[] out = new double[2];
+
+        GeoDistance.haversineKm(51.5074, -0.1278, new double[]{Double.NaN, 48.8566},
+                new double[]{2.3522, Double.NaN}, out, 2);
+        assertThat(out[0]).isNaN();
+        assertThat(out[1]).isNaN();
+
+        GeoDistance.haversineKm(new double[]{Double.NaN}, new double[]{0}, new double[]{1}, new double[]{1}, out, 1);
+        assertThat(out[0]).isNaN();
+        assertThat(GeoDistance.haversineKm(Double.NaN, 0, 1, 1)).isNaN();
+    }
+}
@@ -0,0 +1,109 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashIndexTest {
+
+    @Test
+    void findsPointsWithinRadiusNearestFirst() {
+        GeoHashIndex index = new GeoHashIndex();
+        index.put(1, 6.9271, 79.8612);   // Colombo
+        index.put(2, 7.2906, 80.6337);   // Kandy, ~94 km
+        index.put(3, 6.0535, 80.2210);   // Galle, ~103 km
+        index.put(4, 9.6615, 80.0255);   // Jaffna, ~300 km
+
+        List<GeoHashIndex.Neighbor> nearby = index.within(6.9271, 79.8612, 120);
+
+        assertThat(nearby).extracting(GeoHashIndex.Neighbor::id).containsExactly(1L, 2L, 3L);
+        assertThat(nearby.get(0).distanceKm()).isZero();
+    }
+
+    @Test
+    void matchesBruteForceOnRandomPoints() {
+        Random random = new Random(11);
+        GeoHashIndex index = new GeoHashIndex();
+        Map<Long, double[]> points = new HashMap<>();
+        for (long id = 0; id < 2000; id++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+            index.put(id, lat, lon);
+            points.put(id, new double[]{lat, lon});
+        }
+
+        double[] radii = {1, 50, 500, 1500, 3000, 6000, 25000};
+        for (int query = 0; query < 1000; query++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+            double radius = radii[query % radii.length];
+
+            List<Long> expected = points.entrySet().stream()
+                    .filter(e -> GeoDistance.haversineKm(lat, lon, e.getValue()[0], e.getValue()[1]) <= radius)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<Long> actual = index.within(lat, lon, radius).stream()
+                    .map(GeoHashIndex.Neighbor::id)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            assertThat(actual).as("query (%f, %f) radius %f", lat, lon, radius).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void searchCrossesTheAntimeridianAndReachesThePoles() {
+        GeoHashIndex index = new GeoHashIndex();
+        index.put(1, 0, 179.9);
+        index.put(2, 0, -179.9);
+        index.put(3, 89.99, 10);
+        index.put(4, 89.99, -170);
+
+        assertThat(index.within(0, 179.95, 30)).extracting(GeoHashIndex.Neighbor::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.within(89.95, 100, 20)).extracting(GeoHashIndex.Neighbor::id)
+                .containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void moveAndRemoveUpdateTheIndex() {
+        GeoHashIndex index = new GeoHashIndex();
+        index.put(1, 51.5074, -0.1278);
+        index.put(1, 48.8566, 2.3522);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.within(51.5074, -0.1278, 10)).isEmpty();
+        assertThat(index.within(48.8566, 2.3522, 10)).extracting(GeoHashIndex.Neighbor::id).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.size()).isZero();
+        assertThat(index.within(48.8566, 2.3522, 10)).isEmpty();
+    }
+
+    @Test
+    void arrayKernelsAgreeWithScalarHaversine() {
+        double[] lats = {51.5074, -33.8688, 0, 89.9};
+        double[] lons = {-0.1278, 151.2093, 180, -45};
+        double[] out = new double[lats.length];
+        GeoDistance.haversineKm(48.8566, 2.3522, lats, lons, out, lats.length);
+
+        assertThat(out[0]).isCloseTo(343.5, within(1.0)); // Paris -> London
+        for (int i = 0; i < lats.length; i++) {
+            assertThat(out[i]).isCloseTo(GeoDistance.haversineKm(48.8566, 2.3522, lats[i], lons[i]), within(1e-9));
+        }
+
+        double[] origins = {48.8566, 48.8566, 48.8566, 48.8566};
+        double[] originLons = {2.3522, 2.3522, 2.3522, 2.3522};
+        double[] pairwise = new double[lats.length];
+        GeoDistance.haversineKm(origins, originLons, lats, lons, pairwise, lats.length);
+        assertThat(pairwise).containsExactly(out, within(1e-9));
+    }
+}
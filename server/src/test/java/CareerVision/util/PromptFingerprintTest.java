@@ -0,0 +1,42 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptFingerprintTest {
+
+    @Test
+    void exactKeyIgnoresCaseStopwordsAndPlurals() {
+        PromptFingerprint first = PromptFingerprint.of("How do I prepare for my interviews?");
+        PromptFingerprint second = PromptFingerprint.of("prepare INTERVIEW");
+
+        assertThat(first.getKey()).isEqualTo("prepare interview").isEqualTo(second.getKey());
+    }
+
+    @Test
+    void exactKeyKeepsWordOrder() {
+        PromptFingerprint javaFirst = PromptFingerprint.of("Should I pick Java over Python?");
+        PromptFingerprint pythonFirst = PromptFingerprint.of("Should I pick Python over Java?");
+
+        assertThat(javaFirst.getKey()).isNotEqualTo(pythonFirst.getKey());
+        assertThat(javaFirst.termSimilarity(pythonFirst)).isEqualTo(1.0);
+    }
+
+    @Test
+    void rewordingsLandCloseAndUnrelatedPromptsFar() {
+        PromptFingerprint question = PromptFingerprint.of("How do I prepare for an interview at a startup?");
+        PromptFingerprint reworded = PromptFingerprint.of("how to prepare for interviews at startups");
+        PromptFingerprint unrelated = PromptFingerprint.of("What salary should a data analyst expect in Colombo?");
+
+        assertThat(question.hammingDistance(reworded)).isZero();
+        assertThat(question.hammingDistance(unrelated)).isGreaterThan(10);
+        assertThat(question.termSimilarity(unrelated)).isZero();
+    }
+
+    @Test
+    void promptOfOnlyStopwordsIsEmpty() {
+        assertThat(PromptFingerprint.of("Hi, can you tell me?").isEmpty()).isTrue();
+        assertThat(PromptFingerprint.of(null).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,93 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillAutomatonTest {
+
+    @Test
+    void matchesWholeWordsOnly() {
+        SkillAutomaton automaton = SkillAutomaton.compile(List.of("java", "javascript", "go"), new int[]{0, 1, 2});
+
+        assertThat(labels(automaton.scan("Senior JavaScript developer"))).containsExactly(1);
+        assertThat(labels(automaton.scan("Java, Go and more"))).containsExactly(0, 2);
+        assertThat(labels(automaton.scan("google ergonomics"))).isEmpty();
+    }
+
+    @Test
+    void ignoresCaseAndFoldsWhitespace() {
+        SkillAutomaton automaton = SkillAutomaton.compile(List.of("spring boot"), new int[]{0});
+
+        assertThat(labels(automaton.scan("SPRING\n\t  Boot"))).containsExactly(0);
+        assertThat(labels(automaton.scan("springboot"))).isEmpty();
+    }
+
+    @Test
+    void variantsShareALabelAndOverlappingPatternsAllFire() {
+        SkillAutomaton automaton = SkillAutomaton.compile(
+                List.of("node.js", "nodejs", "js", "c++", "c#"),
+                new int[]{0, 0, 1, 2, 3});
+
+        assertThat(labels(automaton.scan("nodejs"))).containsExactly(0);
+        assertThat(labels(automaton.scan("node.js"))).containsExactly(0, 1);
+        assertThat(labels(automaton.scan("C++ and C# experience"))).containsExactly(2, 3);
+    }
+
+    @Test
+    void emptyAndNullTextFindNothing() {
+        SkillAutomaton automaton = SkillAutomaton.compile(List.of("sql"), new int[]{0});
+
+        assertThat(automaton.scan(null).isEmpty()).isTrue();
+        assertThat(automaton.scan("").isEmpty()).isTrue();
+    }
+
+    @Test
+    void agreesWithNaiveWholeWordSearchOnRandomText() {
+        List<String> patterns = List.of("ab", "b", "abc", "c a", "bca", "a");
+        int[] labels = {0, 1, 2, 3, 4, 5};
+        SkillAutomaton automaton = SkillAutomaton.compile(patterns, labels);
+
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', 'c', ' ', '-'};
+        for (int round = 0; round < 2000; round++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            BitSet expected = new BitSet();
+            String normalized = text.toString().trim().replaceAll("\\s+", " ");
+            for (int p = 0; p < patterns.size(); p++) {
+                if (containsWholeWord(normalized, patterns.get(p))) {
+                    expected.set(labels[p]);
+                }
+            }
+            assertThat(automaton.scan(text)).as("text '%s'", text).isEqualTo(expected);
+        }
+    }
+
+    private static boolean containsWholeWord(String text, String pattern) {
+        for (int from = text.indexOf(pattern); from >= 0; from = text.indexOf(pattern, from + 1)) {
+            int end = from + pattern.length();
+            boolean startOk = from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1));
+            boolean endOk = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+            if (startOk && endOk) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Integer> labels(BitSet found) {
+        List<Integer> labels = new ArrayList<>();
+        found.stream().forEach(labels::add);
+        return labels;
+    }
+}
@@ -0,0 +1,84 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSelectorTest {
+
+    @Test
+    void keepsTheBestItemsBestFirst() {
+        TopKSelector<String> selector = new TopKSelector<>(3);
+        selector.offer(10, "a");
+        selector.offer(50, "b");
+        selector.offer(30, "c");
+        selector.offer(40, "d");
+        selector.offer(20, "e");
+
+        assertThat(selector.bestFirst()).containsExactly("b", "d", "c");
+        assertThat(selector.getOffered()).isEqualTo(5);
+    }
+
+    @Test
+    void tiesGoToTheItemOfferedFirst() {
+        TopKSelector<String> selector = new TopKSelector<>(2);
+        selector.offer(5, "first");
+        selector.offer(5, "second");
+        selector.offer(5, "third");
+
+        assertThat(selector.bestFirst()).containsExactly("first", "second");
+    }
+
+    @Test
+    void returnsEverythingWhenFewerThanKAreOffered() {
+        TopKSelector<Integer> selector = new TopKSelector<>(10);
+        selector.offer(1, 1);
+        selector.offer(3, 3);
+
+        assertThat(selector.bestFirst()).containsExactly(3, 1);
+        assertThat(selector.size()).isZero();
+    }
+
+    @Test
+    void zeroOrNegativeKKeepsNothing() {
+        TopKSelector<String> none = new TopKSelector<>(0);
+        none.offer(1, "a");
+        TopKSelector<String> negative = new TopKSelector<>(-1);
+        negative.offer(1, "a");
+
+        assertThat(none.bestFirst()).isEmpty();
+        assertThat(negative.bestFirst()).isEmpty();
+    }
+
+    @Test
+    void agreesWithAFullStableSort() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(300);
+            int k = random.nextInt(20);
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Few distinct values, so ties are common
+                scores[i] = random.nextInt(25);
+            }
+
+            TopKSelector<Integer> selector = new TopKSelector<>(k);
+            for (int i = 0; i < n; i++) {
+                selector.offer(scores[i], i);
+            }
+
+            List<Integer> expected = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> -scores[i]))
+                    .limit(k)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            assertThat(selector.bestFirst()).as("n=%d k=%d", n, k).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package CareerVision.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private final Map<String, String> store = new HashMap<>();
+    private final AtomicInteger storeReads = new AtomicInteger();
+
+    private Optional<String> readStore(String key) {
+        storeReads.incrementAndGet();
+        return Optional.ofNullable(store.get(key));
+    }
+
+    @Test
+    void storeHitIsPromotedToMemory() {
+        TwoTierCache<String> cache = new TwoTierCache<>("test", 10);
+        store.put("k", "v");
+
+        assertThat(cache.get("k", this::readStore)).contains("v");
+        assertThat(cache.get("k", this::readStore)).contains("v");
+
+        assertThat(storeReads).hasValue(1);
+        assertThat(cache.getStats())
+                .containsEntry("storeHits", 1L)
+                .containsEntry("memoryHits", 1L)
+                .containsEntry("misses", 0L)
+                .containsEntry("memoryEntries", 1);
+    }
+
+    @Test
+    void putWritesBothTiersAndSurvivesStoreFailures() {
+        TwoTierCache<String> cache = new TwoTierCache<>("test", 10);
+
+        cache.put("a", "1", value -> store.put("a", value));
+        cache.put("b", "2", value -> {
+            throw new IllegalStateException("duplicate key");
+        });
+
+        assertThat(store).containsEntry("a", "1").doesNotContainKey("b");
+        assertThat(cache.get("b", this::readStore)).contains("2");
+        assertThat(storeReads).hasValue(0);
+    }
+
+    @Test
+    void failingStoreReadCountsAsMiss() {
+        TwoTierCache<String> cache = new TwoTierCache<>("test", 10);
+
+        Optional<String> result = cache.get("k", key -> {
+            throw new IllegalStateException("connection refused");
+        });
+
+        assertThat(result).isEmpty();
+        assertThat(cache.getStats()).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void staleEntriesAreMissesAndLeaveMemory() {
+        TwoTierCache<String> cache = new TwoTierCache<>("test", 10, value -> !value.startsWith("old"));
+        cache.put("k", "old answer", value -> { });
+        store.put("k", "old answer");
+
+        assertThat(cache.get("k", this::readStore)).isEmpty();
+        assertThat(cache.getStats()).containsEntry("misses", 1L).containsEntry("memoryEntries", 0);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAndEvictFromMemoryFilters() {
+        TwoTierCache<String> cache = new TwoTierCache<>("test", 2);
+        cache.put("job1:a", "1", value -> { });
+        cache.put("job2:b", "2", value -> { });
+        cache.get("job1:a", this::readStore);
+        cache.put("job3:c", "3", value -> { });
+
+        assertThat(cache.get("job2:b", this::readStore)).isEmpty();
+
+        cache.evictFromMemory(key -> key.startsWith("job1:"));
+        assertThat(cache.get("job1:a", this::readStore)).isEmpty();
+        assertThat(cache.get("job3:c", this::readStore)).contains("3");
+    }
+}